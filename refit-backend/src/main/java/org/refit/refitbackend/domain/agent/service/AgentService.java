@@ -11,6 +11,8 @@ import org.refit.refitbackend.domain.agent.repository.AgentMessageRepository;
 import org.refit.refitbackend.domain.agent.repository.AgentSessionRepository;
 import org.refit.refitbackend.global.error.CustomException;
 import org.refit.refitbackend.global.error.ExceptionType;
+import org.refit.refitbackend.global.ratelimit.AiConcurrencyLimiter;
+import org.refit.refitbackend.global.ratelimit.AiUpstream;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -46,6 +48,7 @@ public class AgentService {
     private final ObjectMapper objectMapper;
     private final AgentSessionRepository agentSessionRepository;
     private final AgentMessageRepository agentMessageRepository;
+    private final AiConcurrencyLimiter aiConcurrencyLimiter;
 
     @Value("${ai.base-url:https://dev.re-fit.kr/api/ai}")
     private String aiBaseUrl;
@@ -107,6 +110,8 @@ public class AgentService {
 
     public SseEmitter replyStream(Long userId, AgentReq.ReplyRequest request) {
         String sessionId = resolveSessionId(userId, request.sessionId());
+        // 중계가 끝날 때까지 자리를 점유한다 (AI 서버가 느려져 SSE 중계가 쌓이면 한도가 줄어 즉시 503)
+        AiConcurrencyLimiter.Permit permit = aiConcurrencyLimiter.acquire(AiUpstream.AGENT_REPLY);
         SseEmitter emitter = new SseEmitter(replyTimeoutSeconds * 1000);
 
         CompletableFuture.runAsync(() -> {
@@ -137,7 +142,11 @@ public class AgentService {
                         .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
                         .build();
 
+                // 세션/메시지 저장 시간은 AI 서버 지연에서 제외
+                permit.markRequestSent();
                 HttpResponse<InputStream> response = client.send(httpRequest, HttpResponse.BodyHandlers.ofInputStream());
+                // 응답 길이와 무관하도록 첫 응답(헤더) 수신까지의 지연을 기록
+                permit.sample(response.statusCode() >= 500);
                 if (response.statusCode() >= 400) {
                     String err = new String(response.body().readAllBytes(), StandardCharsets.UTF_8);
                     safeSendEvent(emitter, "error", Map.of("message", "Agent server error", "status", response.statusCode(), "body", err));
@@ -148,10 +157,16 @@ public class AgentService {
 
                 streamSse(sessionId, userId, response.body(), emitter, assistantMessage, latestIntent, latestCards);
             } catch (Exception e) {
+                // 타임아웃(HttpTimeoutException)/연결 오류만 과부하 신호로 기록 (DB 오류 등은 제외)
+                if (e instanceof IOException) {
+                    permit.sample(true);
+                }
                 log.warn("Agent SSE relay failed", e);
                 safeSendEvent(emitter, "error", Map.of("message", e.getMessage() == null ? "Agent stream failed" : e.getMessage()));
                 safeSendEvent(emitter, "done", Map.of());
                 safeComplete(emitter);
+            } finally {
+                permit.release();
             }
         });
 
@@ -0,0 +1,17 @@
+package org.refit.refitbackend.domain.chat.admission;
+
+/**
+ * 채팅 전송 허용 여부. 거절 시 reason 은 가장 포화된 신호(producer_buffer | inbound_queue | persist_lag).
+ */
+public record ChatSendAdmission(
+        boolean admitted,
+        String reason,
+        long retryAfterMs
+) {
+
+    public static final ChatSendAdmission ADMITTED = new ChatSendAdmission(true, null, 0L);
+
+    public static ChatSendAdmission rejected(String reason, long retryAfterMs) {
+        return new ChatSendAdmission(false, reason, retryAfterMs);
+    }
+}
@@ -0,0 +1,211 @@
+package org.refit.refitbackend.domain.chat.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 채팅 전송 경로 입장 제어.
+ * Kafka producer 버퍼 사용률, STOMP inbound 큐 깊이, 영속화 지연을 주기적으로 샘플링해 0~1 압력으로 환산하고,
+ * soft~hard 구간에서는 압력만큼 확률적으로 거절해 요청이 타임아웃까지 쌓이기 전에 부하를 덜어낸다.
+ * inbound 큐 깊이 신호는 ThreadPoolTaskExecutor(platform 모드)에서만 쓸 수 있고, 가상 스레드 모드에서는 기동 시 로그를 남기고 제외한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.chat.admission.enabled", havingValue = "true")
+public class ChatSendAdmissionController {
+
+    private static final String PRODUCER_METRIC_GROUP = "producer-metrics";
+
+    private final Optional<KafkaTemplate<Object, Object>> kafkaTemplate;
+    private final ObjectProvider<Executor> inboundExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> rejectedCounters = new ConcurrentHashMap<>();
+
+    @Value("${app.chat.admission.sample-interval-ms:100}")
+    private long sampleIntervalMs;
+    @Value("${app.chat.admission.producer-buffer.soft:0.5}")
+    private double producerBufferSoft;
+    @Value("${app.chat.admission.producer-buffer.hard:0.9}")
+    private double producerBufferHard;
+    @Value("${app.chat.admission.inbound-queue.soft:0.5}")
+    private double inboundQueueSoft;
+    @Value("${app.chat.admission.inbound-queue.hard:0.9}")
+    private double inboundQueueHard;
+    @Value("${app.websocket.inbound.queue-capacity:2000}")
+    private int inboundQueueCapacity;
+    @Value("${app.chat.admission.persist-lag-ms.soft:2000}")
+    private long persistLagSoftMs;
+    @Value("${app.chat.admission.persist-lag-ms.hard:10000}")
+    private long persistLagHardMs;
+    // 이 시간 동안 영속화 배치가 관측되지 않으면 지연 신호를 무시 (소비가 없는 노드/유휴 시간)
+    @Value("${app.chat.admission.persist-lag-ms.stale-after-ms:30000}")
+    private long persistLagStaleAfterMs;
+    @Value("${app.chat.admission.retry-after-ms.min:500}")
+    private long retryAfterMinMs;
+    @Value("${app.chat.admission.retry-after-ms.max:5000}")
+    private long retryAfterMaxMs;
+
+    private volatile Pressure pressure = new Pressure(0.0, null, 0L);
+    private volatile long persistLagMs;
+    private volatile long persistLagObservedAt;
+
+    public ChatSendAdmissionController(
+            Optional<KafkaTemplate<Object, Object>> kafkaTemplate,
+            @Qualifier("clientInboundChannelExecutor") ObjectProvider<Executor> inboundExecutor,
+            MeterRegistry meterRegistry
+    ) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.inboundExecutor = inboundExecutor;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("chat.send.admission.pressure", this, controller -> controller.currentPressure().level())
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void logUnavailableSignals() {
+        if (!(inboundExecutor.getIfAvailable() instanceof ThreadPoolTaskExecutor)) {
+            log.info("[CHAT_ADMISSION] inbound queue signal unavailable (no bounded inbound queue, e.g. virtual executor mode). "
+                    + "Using producer buffer and persist lag only.");
+        }
+    }
+
+    public ChatSendAdmission admit() {
+        Pressure current = currentPressure();
+        if (current.level() <= 0.0) {
+            return ChatSendAdmission.ADMITTED;
+        }
+        if (current.level() < 1.0 && ThreadLocalRandom.current().nextDouble() >= current.level()) {
+            return ChatSendAdmission.ADMITTED;
+        }
+        rejectedCounters.computeIfAbsent(current.reason(), reason -> Counter.builder("chat.send.admission.rejected")
+                .tag("reason", reason)
+                .register(meterRegistry)).increment();
+        long retryAfterMs = retryAfterMinMs + Math.round((retryAfterMaxMs - retryAfterMinMs) * current.level());
+        return ChatSendAdmission.rejected(current.reason(), retryAfterMs);
+    }
+
+    /**
+     * 영속화 배치의 가장 오래된 레코드 기준 지연(브로커 타임스탬프 -> 소비 시점)을 기록한다.
+     */
+    public void recordPersistLag(List<Long> recordTimestamps) {
+        if (recordTimestamps == null || recordTimestamps.isEmpty()) {
+            return;
+        }
+        long oldest = Long.MAX_VALUE;
+        for (Long timestamp : recordTimestamps) {
+            if (timestamp != null && timestamp > 0 && timestamp < oldest) {
+                oldest = timestamp;
+            }
+        }
+        if (oldest == Long.MAX_VALUE) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        persistLagMs = Math.max(0L, now - oldest);
+        persistLagObservedAt = now;
+    }
+
+    private Pressure currentPressure() {
+        Pressure current = pressure;
+        long now = System.nanoTime();
+        if (now - current.sampledAtNanos() < sampleIntervalMs * 1_000_000L) {
+            return current;
+        }
+        Pressure next = sample(now);
+        pressure = next;
+        return next;
+    }
+
+    private Pressure sample(long now) {
+        Pressure result = new Pressure(0.0, null, now);
+        result = result.max(scale(producerBufferUsage(), producerBufferSoft, producerBufferHard), "producer_buffer");
+        result = result.max(scale(inboundQueueUsage(), inboundQueueSoft, inboundQueueHard), "inbound_queue");
+        result = result.max(scale(currentPersistLagMs(), persistLagSoftMs, persistLagHardMs), "persist_lag");
+        return result;
+    }
+
+    private double producerBufferUsage() {
+        if (kafkaTemplate.isEmpty()) {
+            return 0.0;
+        }
+        try {
+            double available = -1;
+            double total = -1;
+            for (Map.Entry<MetricName, ? extends Metric> entry : kafkaTemplate.get().metrics().entrySet()) {
+                MetricName name = entry.getKey();
+                if (!PRODUCER_METRIC_GROUP.equals(name.group())) {
+                    continue;
+                }
+                if ("buffer-available-bytes".equals(name.name())) {
+                    available = toDouble(entry.getValue().metricValue());
+                } else if ("buffer-total-bytes".equals(name.name())) {
+                    total = toDouble(entry.getValue().metricValue());
+                }
+            }
+            if (available < 0 || total <= 0) {
+                return 0.0;
+            }
+            return 1.0 - available / total;
+        } catch (Exception e) {
+            log.debug("Kafka producer metrics unavailable", e);
+            return 0.0;
+        }
+    }
+
+    // 가상 스레드 모드(SimpleAsyncTaskExecutor)는 큐가 없고 동시 실행 제한으로 역압이 걸리므로 이 신호를 쓰지 않는다.
+    private double inboundQueueUsage() {
+        Executor executor = inboundExecutor.getIfAvailable();
+        if (!(executor instanceof ThreadPoolTaskExecutor pool) || inboundQueueCapacity <= 0) {
+            return 0.0;
+        }
+        return (double) pool.getQueueSize() / inboundQueueCapacity;
+    }
+
+    private double currentPersistLagMs() {
+        if (System.currentTimeMillis() - persistLagObservedAt > persistLagStaleAfterMs) {
+            return 0.0;
+        }
+        return persistLagMs;
+    }
+
+    private static double scale(double value, double soft, double hard) {
+        if (value <= soft) {
+            return 0.0;
+        }
+        if (value >= hard || hard <= soft) {
+            return 1.0;
+        }
+        return (value - soft) / (hard - soft);
+    }
+
+    private static double toDouble(Object value) {
+        return value instanceof Number number ? number.doubleValue() : -1;
+    }
+
+    private record Pressure(double level, String reason, long sampledAtNanos) {
+
+        Pressure max(double candidate, String candidateReason) {
+            return candidate > level ? new Pressure(candidate, candidateReason, sampledAtNanos) : this;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package org.refit.refitbackend.domain.chat.archive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * chat_messages_archive 테이블과 월 단위 파티션 관리.
+ * ddl-auto=update 는 파티션 테이블을 만들 수 없으므로 기동 시/주기적으로 직접 DDL 을 실행한다. (여러 노드가 동시에 실행해도 안전)
+ * PostgreSQL 은 실패한 문장이 트랜잭션 전체를 중단시키므로, 파티션 DDL 은 호출 측(보관 작업) 트랜잭션과 분리된 별도 트랜잭션에서 실행한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.chat.archive.enabled", havingValue = "true")
+public class ChatMessageArchivePartitionManager {
+
+    private static final String PARENT_TABLE = "chat_messages_archive";
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate ddlTransaction;
+    // 이 노드에서 이미 생성 확인한 파티션 (중복 DDL 방지). 생성에 성공한 달만 기록해 실패한 달은 다음 호출에서 다시 시도한다
+    private final Set<YearMonth> knownPartitions = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.chat.archive.partitions-ahead-months:1}")
+    private int partitionsAheadMonths;
+
+    public ChatMessageArchivePartitionManager(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ddlTransaction = new TransactionTemplate(transactionManager);
+        this.ddlTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        ensureParentTable();
+        ensureUpcomingPartitions();
+    }
+
+    @Scheduled(cron = "${app.chat.archive.partition-cron:0 0 3 * * *}")
+    public void ensureUpcomingPartitions() {
+        YearMonth current = YearMonth.now();
+        ensurePartitions(current, current.plusMonths(partitionsAheadMonths));
+    }
+
+    public void ensurePartitions(LocalDateTime from, LocalDateTime to) {
+        ensurePartitions(YearMonth.from(from), YearMonth.from(to));
+    }
+
+    private void ensurePartitions(YearMonth from, YearMonth to) {
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            if (knownPartitions.contains(month)) {
+                continue;
+            }
+            if (createPartition(month)) {
+                knownPartitions.add(month);
+            }
+        }
+    }
+
+    private void ensureParentTable() {
+        jdbcTemplate.execute("""
+                create table if not exists chat_messages_archive (
+                    id bigint not null,
+                    chat_room_id bigint not null,
+                    sender_id bigint not null,
+                    message_type varchar(20) not null,
+                    content varchar(500) not null,
+                    room_sequence bigint not null,
+                    client_message_id varchar(64),
+                    created_at timestamp(6) not null,
+                    updated_at timestamp(6) not null,
+                    primary key (id, created_at)
+                ) partition by range (created_at)
+                """);
+        jdbcTemplate.execute("create index if not exists idx_chat_archive_room_seq on chat_messages_archive (chat_room_id, room_sequence)");
+        // 범위 밖 데이터(파티션 생성 전 유입 등) 수용
+        jdbcTemplate.execute("create table if not exists chat_messages_archive_default partition of chat_messages_archive default");
+    }
+
+    // 보관 데이터는 삽입 후 갱신이 없으므로 fillfactor 100 으로 페이지를 꽉 채운다.
+    private boolean createPartition(YearMonth month) {
+        String name = PARENT_TABLE + "_p" + month.format(SUFFIX_FORMAT);
+        String sql = "create table if not exists " + name
+                + " partition of " + PARENT_TABLE
+                + " for values from ('" + month.atDay(1) + "') to ('" + month.plusMonths(1).atDay(1) + "')"
+                + " with (fillfactor = 100)";
+        try {
+            ddlTransaction.executeWithoutResult(status -> jdbcTemplate.execute(sql));
+            return true;
+        } catch (Exception e) {
+            // 다른 노드가 동시에 만든 경우(다음 호출의 if not exists 로 확인), 또는 default 파티션에 같은 범위 행이 이미 있는 경우
+            // 이 경우 보관 행은 default 파티션으로 들어간다
+            log.warn("Chat archive partition create failed. partition={}", name, e);
+            return false;
+        }
+    }
+}
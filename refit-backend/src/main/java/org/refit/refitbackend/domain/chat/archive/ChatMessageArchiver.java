@@ -0,0 +1,89 @@
+package org.refit.refitbackend.domain.chat.archive;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.refit.refitbackend.domain.chat.cache.ChatMessageTailCache;
+import org.refit.refitbackend.domain.chat.membership.ChatRoomMembershipCache;
+import org.refit.refitbackend.domain.chat.repository.ChatMessageArchiveRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 종료 후 보관 기간이 지난 채팅방 메시지를 chat_messages_archive 로 옮겨 hot 테이블/인덱스를 작게 유지한다.
+ * 채팅방 단위 트랜잭션(복사 -> 삭제 -> archived_at 설정)이며, FOR UPDATE SKIP LOCKED 로 노드 간 중복 처리를 피한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.chat.archive.enabled", havingValue = "true")
+public class ChatMessageArchiver {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ChatMessageArchiveRepository chatMessageArchiveRepository;
+    private final ChatMessageArchivePartitionManager partitionManager;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+    private final Optional<ChatMessageTailCache> chatMessageTailCache;
+
+    @Value("${app.chat.archive.closed-after-days:90}")
+    private int closedAfterDays;
+
+    @Value("${app.chat.archive.max-rooms-per-run:500}")
+    private int maxRoomsPerRun;
+
+    @Scheduled(cron = "${app.chat.archive.cron:0 30 4 * * *}")
+    public void archiveClosedRooms() {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(closedAfterDays);
+        int archived = 0;
+        try {
+            while (archived < maxRoomsPerRun) {
+                Long chatId = transactionTemplate.execute(status -> archiveNextRoom(threshold));
+                if (chatId == null) {
+                    break;
+                }
+                chatMessageTailCache.ifPresent(cache -> cache.evict(chatId));
+                archived++;
+            }
+        } catch (Exception e) {
+            log.error("Chat archive run failed. archivedRooms={}", archived, e);
+        }
+        if (archived > 0) {
+            log.info("Chat archive run completed. archivedRooms={}", archived);
+        }
+    }
+
+    private Long archiveNextRoom(LocalDateTime threshold) {
+        List<Long> candidates = jdbcTemplate.queryForList("""
+                select id from chat_rooms
+                where status = 'CLOSED'
+                  and closed_at < ?
+                  and archived_at is null
+                order by closed_at
+                limit 1
+                for update skip locked
+                """, Long.class, Timestamp.valueOf(threshold));
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        Long chatId = candidates.get(0);
+        // 파티션 DDL 은 별도 트랜잭션에서 실행되어, 실패해도 이 트랜잭션은 중단되지 않는다 (범위 밖 행은 default 파티션)
+        chatMessageArchiveRepository.findHotTimeRange(chatId)
+                .ifPresent(range -> partitionManager.ensurePartitions(range.from(), range.to()));
+        int copied = chatMessageArchiveRepository.copyToArchive(chatId);
+        int deleted = chatMessageArchiveRepository.deleteArchivedFromHot(chatId);
+        chatMessageArchiveRepository.markRoomArchived(chatId, LocalDateTime.now());
+        // 조회 경로가 archived 여부를 참여 캐시에서 읽으므로 커밋 후 전 노드 무효화
+        chatRoomMembershipCache.invalidateAfterCommit(chatId);
+        log.debug("Chat room archived. chatId={}, copied={}, deletedFromHot={}", chatId, copied, deleted);
+        return chatId;
+    }
+}
@@ -0,0 +1,55 @@
+package org.refit.refitbackend.domain.chat.cache;
+
+import org.refit.refitbackend.domain.chat.dto.ChatRes;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 채팅방별 최신 메시지 tail 캐시 (커서 없는 첫 페이지 조회용).
+ * room_sequence 가 채팅방 내에서 연속이므로, 연속성이 깨진 경우(누락/미저장)는 miss 로 보고 DB 로 fallback 한다.
+ */
+public interface ChatMessageTailCache {
+
+    /**
+     * 최신순 최대 limit 개. 캐시가 limit 개를 채우지 못하면 첫 메시지(seq=1)까지 포함한 경우에만 반환한다.
+     * userId 가 채팅방 참여자가 아니면 miss.
+     */
+    Optional<List<ChatRes.MessageInfo>> findLatest(Long chatId, Long userId, int limit);
+
+    void warm(Long chatId, ChatRes.UserInfo requester, ChatRes.UserInfo receiver, List<ChatRes.MessageInfo> messages);
+
+    /**
+     * room_sequence 기준 append/upsert. 캐시되지 않은 채팅방은 무시한다.
+     * message_id 가 없는 실시간 payload 는 이미 저장된 항목을 덮어쓰지 않는다.
+     */
+    void put(Long chatId, ChatRes.MessageInfo message);
+
+    void evict(Long chatId);
+
+    static ChatRes.MessageInfo withParticipantInfo(
+            ChatRes.MessageInfo message,
+            ChatRes.UserInfo requester,
+            ChatRes.UserInfo receiver
+    ) {
+        Long senderId = message.sender() != null ? message.sender().userId() : null;
+        ChatRes.UserInfo sender;
+        if (requester != null && requester.userId().equals(senderId)) {
+            sender = requester;
+        } else if (receiver != null && receiver.userId().equals(senderId)) {
+            sender = receiver;
+        } else {
+            return message;
+        }
+        return new ChatRes.MessageInfo(
+                message.messageId(),
+                message.chatId(),
+                message.roomSequence(),
+                sender,
+                message.messageType(),
+                message.content(),
+                message.clientMessageId(),
+                message.createdAt()
+        );
+    }
+}
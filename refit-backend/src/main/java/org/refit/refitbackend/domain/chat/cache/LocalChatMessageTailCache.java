@@ -0,0 +1,130 @@
+package org.refit.refitbackend.domain.chat.cache;
+
+import org.refit.refitbackend.domain.chat.dto.ChatRes;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 단일 노드용 tail 캐시. 채팅방별 고정 크기 ring buffer(slot = seq % capacity) + 채팅방 단위 LRU 제거.
+ */
+@Component
+@ConditionalOnProperty(name = "app.chat.tail-cache.mode", havingValue = "local")
+public class LocalChatMessageTailCache implements ChatMessageTailCache {
+
+    private final int capacity;
+    private final long ttlMs;
+    private final Map<Long, RoomTail> rooms;
+
+    public LocalChatMessageTailCache(
+            @Value("${app.chat.tail-cache.capacity:100}") int capacity,
+            @Value("${app.chat.tail-cache.max-rooms:10000}") int maxRooms,
+            @Value("${app.chat.tail-cache.ttl-seconds:600}") long ttlSeconds
+    ) {
+        this.capacity = capacity;
+        this.ttlMs = ttlSeconds * 1000L;
+        this.rooms = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, RoomTail> eldest) {
+                return size() > maxRooms;
+            }
+        });
+    }
+
+    @Override
+    public Optional<List<ChatRes.MessageInfo>> findLatest(Long chatId, Long userId, int limit) {
+        if (limit > capacity) {
+            return Optional.empty();
+        }
+        RoomTail tail = rooms.get(chatId);
+        if (tail == null) {
+            return Optional.empty();
+        }
+        if (tail.expiresAtMs < System.currentTimeMillis()) {
+            rooms.remove(chatId);
+            return Optional.empty();
+        }
+        return tail.latest(userId, limit);
+    }
+
+    @Override
+    public void warm(Long chatId, ChatRes.UserInfo requester, ChatRes.UserInfo receiver, List<ChatRes.MessageInfo> messages) {
+        RoomTail tail = new RoomTail(capacity, requester, receiver, System.currentTimeMillis() + ttlMs);
+        for (ChatRes.MessageInfo message : messages) {
+            tail.put(message);
+        }
+        rooms.put(chatId, tail);
+    }
+
+    @Override
+    public void put(Long chatId, ChatRes.MessageInfo message) {
+        if (message.roomSequence() == null) {
+            return;
+        }
+        RoomTail tail = rooms.get(chatId);
+        if (tail != null) {
+            tail.put(message);
+        }
+    }
+
+    @Override
+    public void evict(Long chatId) {
+        rooms.remove(chatId);
+    }
+
+    private static final class RoomTail {
+        private final ChatRes.MessageInfo[] slots;
+        private final ChatRes.UserInfo requester;
+        private final ChatRes.UserInfo receiver;
+        private final long expiresAtMs;
+        private long newestSeq;
+
+        private RoomTail(int capacity, ChatRes.UserInfo requester, ChatRes.UserInfo receiver, long expiresAtMs) {
+            this.slots = new ChatRes.MessageInfo[capacity];
+            this.requester = requester;
+            this.receiver = receiver;
+            this.expiresAtMs = expiresAtMs;
+        }
+
+        private synchronized void put(ChatRes.MessageInfo message) {
+            long seq = message.roomSequence();
+            if (seq <= newestSeq - slots.length) {
+                return;
+            }
+            int index = (int) (seq % slots.length);
+            ChatRes.MessageInfo existing = slots[index];
+            if (existing != null) {
+                if (existing.roomSequence() > seq) {
+                    return;
+                }
+                if (existing.roomSequence() == seq && existing.messageId() != null && message.messageId() == null) {
+                    return;
+                }
+            }
+            slots[index] = message;
+            newestSeq = Math.max(newestSeq, seq);
+        }
+
+        private synchronized Optional<List<ChatRes.MessageInfo>> latest(Long userId, int limit) {
+            if (!requester.userId().equals(userId) && !receiver.userId().equals(userId)) {
+                return Optional.empty();
+            }
+            List<ChatRes.MessageInfo> result = new ArrayList<>(limit);
+            for (long seq = newestSeq; seq >= 1 && result.size() < limit; seq--) {
+                ChatRes.MessageInfo message = slots[(int) (seq % slots.length)];
+                if (message == null || message.roomSequence() != seq || message.messageId() == null) {
+                    return Optional.empty();
+                }
+                result.add(ChatMessageTailCache.withParticipantInfo(message, requester, receiver));
+            }
+            return Optional.of(result);
+        }
+    }
+}
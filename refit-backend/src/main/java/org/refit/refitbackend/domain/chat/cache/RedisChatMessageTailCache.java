@@ -0,0 +1,193 @@
+package org.refit.refitbackend.domain.chat.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.refit.refitbackend.domain.chat.dto.ChatRes;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 멀티 노드 공유 tail 캐시. 채팅방별 ZSET(score = room_sequence) + 참여자 HASH.
+ * 채팅방 단위 제거는 TTL 과 Redis maxmemory 정책(LRU)에 맡긴다.
+ * LRU 는 두 키를 따로 제거할 수 있으므로, 참여자 HASH 에 적재된 최대 seq(high_water, 빈 채팅방이면 0)를 함께 두고
+ * tail 의 최신 seq 가 이와 다르면(ZSET 만 제거된 경우 포함) 캐시 미스로 처리한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.chat.tail-cache.mode", havingValue = "redis")
+public class RedisChatMessageTailCache implements ChatMessageTailCache {
+
+    private static final String KEY_PREFIX = "chat:tail:";
+    private static final String MEMBERS_SUFFIX = ":members";
+    private static final String REQUESTER_FIELD = "requester";
+    private static final String RECEIVER_FIELD = "receiver";
+    private static final String HIGH_WATER_FIELD = "high_water";
+
+    // KEYS[1]=tail zset, KEYS[2]=members hash / ARGV: seq, json, hasMessageId, capacity
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>("""
+            local highWater = redis.call('HGET', KEYS[2], 'high_water')
+            if not highWater then
+              return 0
+            end
+            -- tail 에 있던 메시지가 있었는데 ZSET 만 제거된 상태: 일부만 다시 채우지 않고 재적재를 기다린다
+            if tonumber(highWater) > 0 and redis.call('EXISTS', KEYS[1]) == 0 then
+              redis.call('DEL', KEYS[2])
+              return 0
+            end
+            local seq = ARGV[1]
+            if ARGV[3] == '0' and redis.call('ZCOUNT', KEYS[1], seq, seq) > 0 then
+              return 0
+            end
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], seq, seq)
+            redis.call('ZADD', KEYS[1], seq, ARGV[2])
+            redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[4]) + 1))
+            if tonumber(seq) > tonumber(highWater) then
+              redis.call('HSET', KEYS[2], 'high_water', seq)
+            end
+            local ttl = redis.call('PTTL', KEYS[2])
+            if ttl > 0 then
+              redis.call('PEXPIRE', KEYS[1], ttl)
+            end
+            return 1
+            """, Long.class);
+
+    // KEYS[1]=tail zset, KEYS[2]=members hash / ARGV: ttlMs, requester, receiver, (seq, json)...
+    // 삭제 후 재적재를 한 번에 실행해 다른 노드가 중간 상태(빈 tail + 참여자)를 읽지 않도록 한다
+    private static final RedisScript<Long> WARM_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1], KEYS[2])
+            local highWater = 0
+            for i = 4, #ARGV, 2 do
+              redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1])
+              highWater = math.max(highWater, tonumber(ARGV[i]))
+            end
+            redis.call('HSET', KEYS[2], 'requester', ARGV[2], 'receiver', ARGV[3], 'high_water', highWater)
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final int capacity;
+    private final Duration ttl;
+
+    public RedisChatMessageTailCache(
+            StringRedisTemplate stringRedisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${app.chat.tail-cache.capacity:100}") int capacity,
+            @Value("${app.chat.tail-cache.ttl-seconds:600}") long ttlSeconds
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.capacity = capacity;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    @Override
+    public Optional<List<ChatRes.MessageInfo>> findLatest(Long chatId, Long userId, int limit) {
+        if (limit > capacity) {
+            return Optional.empty();
+        }
+        try {
+            Map<Object, Object> members = stringRedisTemplate.opsForHash().entries(membersKey(chatId));
+            if (members.isEmpty() || members.get(HIGH_WATER_FIELD) == null) {
+                return Optional.empty();
+            }
+            long highWater = Long.parseLong((String) members.get(HIGH_WATER_FIELD));
+            ChatRes.UserInfo requester = objectMapper.readValue((String) members.get(REQUESTER_FIELD), ChatRes.UserInfo.class);
+            ChatRes.UserInfo receiver = objectMapper.readValue((String) members.get(RECEIVER_FIELD), ChatRes.UserInfo.class);
+            if (!requester.userId().equals(userId) && !receiver.userId().equals(userId)) {
+                return Optional.empty();
+            }
+
+            Set<String> rows = stringRedisTemplate.opsForZSet().reverseRange(tailKey(chatId), 0, limit - 1);
+            List<ChatRes.MessageInfo> result = new ArrayList<>(limit);
+            // 첫 행은 적재된 최대 seq 여야 한다. tail 이 비어 있으면 실제로 빈 채팅방(high_water 0)일 때만 hit
+            Long expectedSeq = highWater;
+            if (rows == null || rows.isEmpty()) {
+                return highWater == 0L ? Optional.of(result) : Optional.empty();
+            }
+            for (String row : rows) {
+                ChatRes.MessageInfo message = objectMapper.readValue(row, ChatRes.MessageInfo.class);
+                if (message.messageId() == null || !expectedSeq.equals(message.roomSequence())) {
+                    return Optional.empty();
+                }
+                expectedSeq = message.roomSequence() - 1;
+                result.add(ChatMessageTailCache.withParticipantInfo(message, requester, receiver));
+            }
+            if (result.size() < limit && expectedSeq != 0L) {
+                return Optional.empty();
+            }
+            return Optional.of(result);
+        } catch (Exception e) {
+            log.warn("Redis chat tail cache read failed. chatId={}", chatId, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void warm(Long chatId, ChatRes.UserInfo requester, ChatRes.UserInfo receiver, List<ChatRes.MessageInfo> messages) {
+        try {
+            List<String> args = new ArrayList<>(3 + messages.size() * 2);
+            args.add(String.valueOf(ttl.toMillis()));
+            args.add(objectMapper.writeValueAsString(requester));
+            args.add(objectMapper.writeValueAsString(receiver));
+            for (ChatRes.MessageInfo message : messages) {
+                if (message.roomSequence() != null) {
+                    args.add(String.valueOf(message.roomSequence()));
+                    args.add(objectMapper.writeValueAsString(message));
+                }
+            }
+            stringRedisTemplate.execute(WARM_SCRIPT, List.of(tailKey(chatId), membersKey(chatId)), args.toArray());
+        } catch (Exception e) {
+            log.warn("Redis chat tail cache warm failed. chatId={}", chatId, e);
+        }
+    }
+
+    @Override
+    public void put(Long chatId, ChatRes.MessageInfo message) {
+        if (message.roomSequence() == null) {
+            return;
+        }
+        try {
+            stringRedisTemplate.execute(
+                    PUT_SCRIPT,
+                    List.of(tailKey(chatId), membersKey(chatId)),
+                    String.valueOf(message.roomSequence()),
+                    objectMapper.writeValueAsString(message),
+                    message.messageId() != null ? "1" : "0",
+                    String.valueOf(capacity)
+            );
+        } catch (Exception e) {
+            log.warn("Redis chat tail cache put failed. chatId={}", chatId, e);
+        }
+    }
+
+    @Override
+    public void evict(Long chatId) {
+        try {
+            stringRedisTemplate.delete(List.of(tailKey(chatId), membersKey(chatId)));
+        } catch (Exception e) {
+            log.warn("Redis chat tail cache evict failed. chatId={}", chatId, e);
+        }
+    }
+
+    private String tailKey(Long chatId) {
+        return KEY_PREFIX + chatId;
+    }
+
+    private String membersKey(Long chatId) {
+        return KEY_PREFIX + chatId + MEMBERS_SUFFIX;
+    }
+}
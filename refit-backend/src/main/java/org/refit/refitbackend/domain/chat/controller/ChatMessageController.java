@@ -3,9 +3,14 @@ package org.refit.refitbackend.domain.chat.controller;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.refit.refitbackend.domain.chat.dto.ChatReq;
+import org.refit.refitbackend.domain.chat.dto.ChatRes;
 import org.refit.refitbackend.domain.chat.service.ChatMessageService;
+import org.refit.refitbackend.domain.chat.service.ChatRoomService;
+import org.refit.refitbackend.global.error.CustomException;
+import org.refit.refitbackend.global.error.ExceptionType;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
 import java.security.Principal;
@@ -15,7 +20,13 @@ import java.security.Principal;
 @Slf4j
 public class ChatMessageController {
 
+    private static final String SYNC_DESTINATION = "/queue/chat.sync";
+    private static final String ERROR_DESTINATION = "/queue/errors";
+
     private final ChatMessageService chatMessageService;
+    private final ChatRoomService chatRoomService;
+    private final SimpMessagingTemplate messagingTemplate;
+
     /**
      * 메시지 전송 (WebSocket)
      * 클라이언트: /app/chat.sendMessage
@@ -41,4 +52,42 @@ public class ChatMessageController {
             log.error("메시지 전송 실패", e);
         }
     }
+
+    /**
+     * 재접속 동기화 (WebSocket)
+     * 클라이언트: /app/chat.sync -> 응답: /user/queue/chat.sync, 실패 시 /user/queue/errors
+     */
+    @MessageMapping("/chat.sync")
+    public void syncMessages(
+            @Payload ChatReq.SyncMessages request,
+            Principal principal
+    ) {
+        if (principal == null || principal.getName() == null || principal.getName().isBlank()) {
+            log.warn("동기화 요청 거부: 인증 정보가 없습니다.");
+            return;
+        }
+        try {
+            Long userId = Long.parseLong(principal.getName());
+            messagingTemplate.convertAndSendToUser(
+                    principal.getName(),
+                    SYNC_DESTINATION,
+                    chatRoomService.syncMessages(userId, request)
+            );
+        } catch (CustomException e) {
+            log.warn("동기화 요청 거부 - userId: {}, code: {}", principal.getName(), e.getExceptionType().getCode());
+            sendSyncFailed(principal.getName(), e.getExceptionType());
+        } catch (Exception e) {
+            log.error("동기화 요청 처리 실패", e);
+            sendSyncFailed(principal.getName(), ExceptionType.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // 클라이언트가 응답을 기다리지 않고 재시도/전체 재조회로 넘어갈 수 있도록 실패도 응답한다
+    private void sendSyncFailed(String userId, ExceptionType exceptionType) {
+        messagingTemplate.convertAndSendToUser(
+                userId,
+                ERROR_DESTINATION,
+                new ChatRes.SyncFailed(exceptionType.getCode(), exceptionType.getMessage())
+        );
+    }
 }
@@ -59,6 +59,17 @@ public class ChatRoomController {
         return ResponseUtil.ok("success", res);
     }
 
+    /**
+     * 전체 안 읽은 메시지 수 조회
+     */
+    @ChatSwaggerSpec.GetUnreadCount
+    @GetMapping("/unread-count")
+    public ResponseEntity<ApiResponse<ChatRes.UnreadCount>> getUnreadCount(
+            @AuthenticationPrincipal CustomUserDetails principal
+    ) {
+        return ResponseUtil.ok("success", chatRoomService.getTotalUnreadCount(principal.getUserId()));
+    }
+
     /**
      * 채팅방 상세 조회
      */
@@ -124,6 +135,18 @@ public class ChatRoomController {
         return ResponseUtil.ok("success", res);
     }
 
+    /**
+     * 재접속 동기화 (채팅방별 누락 구간 조회)
+     */
+    @ChatSwaggerSpec.SyncMessages
+    @PostMapping("/sync")
+    public ResponseEntity<ApiResponse<ChatRes.SyncResponse>> syncMessages(
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @Valid @RequestBody ChatReq.SyncMessages request
+    ) {
+        return ResponseUtil.ok("success", chatRoomService.syncMessages(principal.getUserId(), request));
+    }
+
     /**
      * 메시지 읽음 처리
      */
@@ -63,6 +63,28 @@ public class ChatReq {
             Long lastReadSeq
     ) {}
 
+    @Schema(description = "재접속 동기화 요청")
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record SyncMessages(
+            @Schema(description = "채팅방별 마지막 수신 시퀀스")
+            @NotEmpty(message = "동기화할 채팅방이 필요합니다.")
+            @Size(max = 100, message = "한 번에 동기화할 수 있는 채팅방 수를 초과했습니다.")
+            List<@Valid SyncCursor> rooms
+    ) {}
+
+    @Schema(description = "채팅방별 동기화 커서")
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record SyncCursor(
+            @Schema(description = "채팅방 ID", example = "1")
+            @NotNull(message = "채팅 ID가 필요합니다.")
+            Long chatId,
+
+            @Schema(description = "마지막으로 수신한 메시지 시퀀스", example = "120")
+            @NotNull(message = "마지막 수신 시퀀스가 필요합니다.")
+            @Min(value = 0, message = "마지막 수신 시퀀스가 올바르지 않습니다.")
+            Long lastSeenSeq
+    ) {}
+
     @Schema(description = "채팅방 종료 요청")
     @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
     public record CloseRoom(
@@ -274,6 +274,55 @@ public class ChatRes {
             boolean hasMore
     ) {}
 
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record SyncResponse(
+            List<SyncRoom> rooms
+    ) {}
+
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record SyncRoom(
+            Long chatId,
+            Long latestSeq,
+            boolean upToDate,
+            List<MessageInfo> messages,
+            boolean hasMore
+    ) {
+        public static SyncRoom upToDate(Long chatId, long latestSeq) {
+            return new SyncRoom(chatId, latestSeq, true, List.of(), false);
+        }
+    }
+
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record UnreadCount(
+            long totalUnreadCount
+    ) {}
+
+    @Schema(description = "채팅 전송 거절 응답 (/user/queue/errors)")
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record SendRejected(
+            @Schema(description = "에러 코드", example = "CHAT_SEND_OVERLOADED")
+            String code,
+
+            @Schema(description = "에러 메시지")
+            String message,
+
+            @Schema(description = "거절 원인", example = "persist_lag")
+            String reason,
+
+            @Schema(description = "재시도까지 대기 시간(ms)", example = "1500")
+            long retryAfterMs
+    ) {}
+
+    @Schema(description = "재접속 동기화 실패 응답 (/user/queue/errors)")
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record SyncFailed(
+            @Schema(description = "에러 코드", example = "CHAT_ROOM_NOT_FOUND")
+            String code,
+
+            @Schema(description = "에러 메시지")
+            String message
+    ) {}
+
     @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
     public record ChatRequestId(
             Long chatRequestId
@@ -50,6 +50,10 @@ public class ChatRoom extends BaseEntity {
     @Column(name = "closed_at")
     private LocalDateTime closedAt;
 
+    // 메시지가 chat_messages_archive 로 이동된 시각 (ChatMessageArchiver 가 설정)
+    @Column(name = "archived_at")
+    private LocalDateTime archivedAt;
+
     // V1에서는 chat_request 없이 바로 채팅방 생성하므로 nullable
     @Column(name = "chat_request_id")
     private Long chatRequestId;
@@ -72,9 +76,14 @@ public class ChatRoom extends BaseEntity {
 
     // 마지막 메시지 업데이트
     public void updateLastMessage(ChatMessage message) {
-        this.lastMessage = message;
-        this.lastMessageAt = message.getCreatedAt();
-        this.lastMessageSeq = message.getRoomSequence();
+        updateLastMessage(message, message.getRoomSequence(), message.getCreatedAt());
+    }
+
+    // 대량 저장 경로: 메시지 엔티티를 로드하지 않고 참조 + 시퀀스/시각으로 갱신
+    public void updateLastMessage(ChatMessage messageRef, Long roomSequence, LocalDateTime messageAt) {
+        this.lastMessage = messageRef;
+        this.lastMessageAt = messageAt;
+        this.lastMessageSeq = roomSequence;
     }
 
     // 읽음 처리 (seq 기반)
@@ -98,12 +107,6 @@ public class ChatRoom extends BaseEntity {
         }
     }
 
-    public long nextMessageSequence() {
-        long next = (this.lastMessageSeq == null ? 1L : this.lastMessageSeq + 1L);
-        this.lastMessageSeq = next;
-        return next;
-    }
-
     // 채팅방 종료
     public void close() {
         this.status = ChatRoomStatus.CLOSED;
@@ -0,0 +1,25 @@
+package org.refit.refitbackend.domain.chat.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채팅방별 room_sequence 발급 상한(high-water).
+ * 발급기는 이 값을 넘는 seq 를 내주기 전에 블록 단위로 먼저 올려 기록하므로, 발급된 seq(저장 대기 중인 것 포함)는 모두 이 값 이하다.
+ * chat_rooms 행 경합을 피하려고 별도 테이블에 두며, 갱신은 ChatMessageSequenceSeeder 의 JDBC upsert 로만 한다.
+ */
+@Entity
+@Table(name = "chat_room_sequences")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatRoomSequence {
+
+    @Id
+    @Column(name = "chat_room_id")
+    private Long chatRoomId;
+
+    @Column(name = "high_water", nullable = false)
+    private Long highWater;
+}
@@ -1,7 +1,10 @@
 package org.refit.refitbackend.domain.chat.kafka;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.refit.refitbackend.domain.chat.kafka.event.ChatMessageEvent;
 import org.refit.refitbackend.domain.chat.kafka.event.ChatMessagePersistRequestedEvent;
 import org.refit.refitbackend.domain.chat.kafka.event.ChatMessageSentEvent;
 import org.refit.refitbackend.global.kafka.config.KafkaTopicProperties;
@@ -9,24 +12,71 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 채팅 Kafka 이벤트 발행. 전송은 비동기이며, 완료 콜백에서 브로커 ack 까지의 지연(히스토그램)과 실패를 기록한다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 @ConditionalOnProperty(name = "app.kafka.enabled", havingValue = "true")
 public class ChatMessageEventPublisher {
 
+    private static final String LATENCY_METRIC_NAME = "chat.kafka.publish.latency";
+
     private final KafkaTemplate<Object, Object> kafkaTemplate;
     private final KafkaTopicProperties topicProperties;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public ChatMessageEventPublisher(
+            KafkaTemplate<Object, Object> kafkaTemplate,
+            KafkaTopicProperties topicProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.topicProperties = topicProperties;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("chat.kafka.publish.in_flight", inFlight, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 저장 요청과 전송 알림을 합친 단일 이벤트 (메시지당 브로커 쓰기 1회)
+     */
+    public void publishMessage(ChatMessageEvent event) {
+        send(topicProperties.getChatMessageEvents(), event.chatId(), event, "message");
+        log.debug("Kafka published chat message event. chatId={}, roomSequence={}, persistRequired={}",
+                event.chatId(), event.roomSequence(), event.persistRequired());
+    }
 
     public void publishMessageSent(ChatMessageSentEvent event) {
-        kafkaTemplate.send(topicProperties.getChatMessageSent(), String.valueOf(event.chatId()), event);
+        send(topicProperties.getChatMessageSent(), event.chatId(), event, "sent");
         log.debug("Kafka published chat message. chatId={}, messageId={}, senderId={}",
                 event.chatId(), event.messageId(), event.senderId());
     }
 
     public void publishPersistRequested(ChatMessagePersistRequestedEvent event) {
-        kafkaTemplate.send(topicProperties.getChatMessagePersistRequested(), String.valueOf(event.chatId()), event);
+        send(topicProperties.getChatMessagePersistRequested(), event.chatId(), event, "persist");
         log.debug("Kafka published chat persist request. chatId={}, senderId={}, roomSequence={}",
                 event.chatId(), event.senderId(), event.roomSequence());
     }
+
+    private void send(String topic, Long chatId, Object event, String eventType) {
+        long startedAt = System.nanoTime();
+        inFlight.incrementAndGet();
+        kafkaTemplate.send(topic, String.valueOf(chatId), event).whenComplete((result, ex) -> {
+            inFlight.decrementAndGet();
+            Timer.builder(LATENCY_METRIC_NAME)
+                    .tag("event", eventType)
+                    .tag("outcome", ex == null ? "success" : "failure")
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            if (ex != null) {
+                log.error("Kafka chat event publish failed. topic={}, chatId={}, event={}", topic, chatId, eventType, ex);
+            }
+        });
+    }
 }
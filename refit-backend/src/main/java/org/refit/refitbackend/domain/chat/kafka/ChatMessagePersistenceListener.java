@@ -1,30 +1,39 @@
 package org.refit.refitbackend.domain.chat.kafka;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import jakarta.persistence.EntityManager;
+import org.refit.refitbackend.domain.chat.admission.ChatSendAdmissionController;
+import org.refit.refitbackend.domain.chat.cache.ChatMessageTailCache;
+import org.refit.refitbackend.domain.chat.dto.ChatRes;
 import org.refit.refitbackend.domain.chat.entity.ChatMessage;
 import org.refit.refitbackend.domain.chat.entity.ChatRoom;
 import org.refit.refitbackend.domain.chat.entity.MessageType;
+import org.refit.refitbackend.domain.chat.kafka.event.ChatMessageEvent;
 import org.refit.refitbackend.domain.chat.kafka.event.ChatMessagePersistRequestedEvent;
-import org.refit.refitbackend.domain.chat.repository.ChatMessageRepository;
+import org.refit.refitbackend.domain.chat.repository.ChatMessageBulkRepository;
 import org.refit.refitbackend.domain.chat.repository.ChatRoomRepository;
-import org.refit.refitbackend.domain.user.entity.User;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.Duration;
-import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -34,119 +43,133 @@ import java.util.stream.Collectors;
 @ConditionalOnProperty(name = {"app.kafka.enabled", "app.chat.persistence.async.enabled"}, havingValue = "true")
 public class ChatMessagePersistenceListener {
 
-    private final ChatMessageRepository chatMessageRepository;
+    private static final String PERSIST_METRIC_NAME = "chat.persist.batch.insert";
+    private static final String PERSIST_ROWS_METRIC_NAME = "chat.persist.rows";
+
+    private final ChatMessageBulkRepository chatMessageBulkRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Optional<ChatMessageTailCache> chatMessageTailCache;
+    private final Optional<ChatSendAdmissionController> chatSendAdmissionController;
 
-    @Value("${app.chat.persistence.async.batch-size:100}")
-    private int batchSize;
-
-    @Value("${app.chat.persistence.async.flush-interval-ms:200}")
-    private long flushIntervalMs;
-
-    private final List<ChatMessagePersistRequestedEvent> buffer = new ArrayList<>();
-    private Instant lastFlushAt = Instant.now();
-
+    /**
+     * poll 단위 배치 소비. 한 poll의 레코드를 하나의 트랜잭션으로 저장하고,
+     * 리스너가 정상 반환(커밋)된 뒤에만 오프셋을 커밋한다(AckMode.BATCH).
+     * 저장 실패 시 처리는 persistWithFallback 참고.
+     */
     @KafkaListener(
             topics = "${app.kafka.topics.chat-message-persist-requested:chat.message.persist.requested}",
-            groupId = "${spring.kafka.consumer.group-id:refit-backend}"
+            groupId = "${spring.kafka.consumer.group-id:refit-backend}",
+            batch = "true",
+            concurrency = "${app.chat.persistence.async.concurrency:3}",
+            properties = "max.poll.records=${app.chat.persistence.async.max-poll-records:500}"
     )
-    @Transactional
-    public void onPersistRequested(ChatMessagePersistRequestedEvent event) {
-        List<ChatMessagePersistRequestedEvent> batchToFlush = null;
-        synchronized (buffer) {
-            buffer.add(event);
-            if (buffer.size() >= batchSize || shouldFlushByTime()) {
-                batchToFlush = drainBufferLocked();
-            }
-        }
-        if (batchToFlush != null) {
-            persistBatch(batchToFlush);
-        }
+    public void onPersistRequested(
+            @Payload List<ChatMessagePersistRequestedEvent> events,
+            @Header(name = KafkaHeaders.RECEIVED_TIMESTAMP, required = false) List<Long> timestamps
+    ) {
+        // 전송 입장 제어의 영속화 지연 신호
+        chatSendAdmissionController.ifPresent(controller -> controller.recordPersistLag(timestamps));
+        persistWithFallback(events);
     }
 
-    @Scheduled(fixedDelayString = "${app.chat.persistence.async.flush-interval-ms:200}")
-    @Transactional
-    public void flushIfNeeded() {
-        List<ChatMessagePersistRequestedEvent> batchToFlush = null;
-        synchronized (buffer) {
-            if (!buffer.isEmpty() && shouldFlushByTime()) {
-                batchToFlush = drainBufferLocked();
-            }
-        }
-        if (batchToFlush != null) {
-            persistBatch(batchToFlush);
+    /**
+     * 통합 채팅 이벤트 토픽 소비 (부수효과 소비자와 별도 group). 요청 트랜잭션에서 이미 저장된 메시지는 건너뛴다.
+     */
+    @KafkaListener(
+            topics = "${app.kafka.topics.chat-message-events:chat.message.events}",
+            groupId = "${spring.kafka.consumer.group-id:refit-backend}.chat-persist",
+            batch = "true",
+            concurrency = "${app.chat.persistence.async.concurrency:3}",
+            properties = "max.poll.records=${app.chat.persistence.async.max-poll-records:500}",
+            autoStartup = "${app.chat.events.combined.enabled:false}"
+    )
+    public void onChatMessageEvents(
+            @Payload List<ChatMessageEvent> events,
+            @Header(name = KafkaHeaders.RECEIVED_TIMESTAMP, required = false) List<Long> timestamps
+    ) {
+        chatSendAdmissionController.ifPresent(controller -> controller.recordPersistLag(timestamps));
+        // 실패 레코드 index 를 원본 poll 기준으로 알리기 위해 저장 대상이 아닌 이벤트는 null 로 자리만 유지
+        List<ChatMessagePersistRequestedEvent> requested = new ArrayList<>(events.size());
+        for (ChatMessageEvent event : events) {
+            requested.add(event != null && event.persistRequired() ? event.toPersistRequested() : null);
         }
+        persistWithFallback(requested);
     }
 
-    private boolean shouldFlushByTime() {
-        return Duration.between(lastFlushAt, Instant.now()).toMillis() >= flushIntervalMs;
-    }
-
-    private List<ChatMessagePersistRequestedEvent> drainBufferLocked() {
-        if (buffer.isEmpty()) {
-            return null;
+    /**
+     * poll 전체를 한 트랜잭션으로 저장하고, 실패하면 레코드별 트랜잭션으로 다시 저장해 처음 실패한 레코드를
+     * BatchListenerFailedException(index) 로 알린다. 앞선 레코드는 커밋되고, 실패 레코드만 재시도 후 DLQ 로 가며,
+     * 뒤 레코드는 다음 poll 에서 다시 전달된다 (잘못된 한 행 때문에 poll 전체가 DLQ 로 가지 않도록).
+     */
+    private void persistWithFallback(List<ChatMessagePersistRequestedEvent> events) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> persistBatch(events));
+            return;
+        } catch (RuntimeException e) {
+            log.warn("Chat persist batch failed, retrying per record. size={}, reason={}", events.size(), e.getMessage());
         }
 
-        List<ChatMessagePersistRequestedEvent> batch = new ArrayList<>(buffer);
-        buffer.clear();
-        lastFlushAt = Instant.now();
-        return batch;
+        for (int index = 0; index < events.size(); index++) {
+            ChatMessagePersistRequestedEvent event = events.get(index);
+            if (event == null) {
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> persistBatch(List.of(event)));
+            } catch (RuntimeException e) {
+                throw new BatchListenerFailedException("chat persist failed. chatId=" + event.chatId()
+                        + ", roomSequence=" + event.roomSequence(), e, index);
+            }
+        }
     }
 
     void persistBatch(List<ChatMessagePersistRequestedEvent> batch) {
         List<ChatMessagePersistRequestedEvent> candidates = batch.stream()
-                .filter(e -> e.chatId() != null && e.senderId() != null && e.roomSequence() != null)
+                .filter(e -> e != null && e.chatId() != null && e.senderId() != null && e.roomSequence() != null)
                 .toList();
         if (candidates.isEmpty()) {
             return;
         }
 
-        Set<String> uniqueRoomSeqKeys = new HashSet<>();
+        // 같은 (채팅방, seq)는 재전달이면 건너뛰고, 다른 메시지면 발급 충돌이므로 조용히 버리지 않고 실패시킨다
+        Map<String, ChatMessagePersistRequestedEvent> uniqueByRoomSeq = new HashMap<>();
         List<ChatMessagePersistRequestedEvent> deduped = new ArrayList<>();
         for (ChatMessagePersistRequestedEvent event : candidates) {
             String key = event.chatId() + "::" + event.roomSequence();
-            if (uniqueRoomSeqKeys.add(key)) {
+            ChatMessagePersistRequestedEvent first = uniqueByRoomSeq.putIfAbsent(key, event);
+            if (first == null) {
                 deduped.add(event);
+            } else if (!isSameMessage(first, event.senderId(), event.clientMessageId(), event.content())) {
+                throw sequenceCollision(event);
             }
         }
 
-        Map<Long, List<Long>> roomSeqMap = deduped.stream()
-                .collect(Collectors.groupingBy(
-                        ChatMessagePersistRequestedEvent::chatId,
-                        Collectors.mapping(ChatMessagePersistRequestedEvent::roomSequence, Collectors.toList())
-                ));
+        List<ChatMessageBulkRepository.RoomSequence> keys = new ArrayList<>(deduped.size());
+        for (ChatMessagePersistRequestedEvent event : deduped) {
+            keys.add(new ChatMessageBulkRepository.RoomSequence(event.chatId(), event.roomSequence()));
+        }
 
+        // 채팅방 수와 무관하게 1회 조회 (쌍 단위 매칭)
         Set<String> existingRoomSeqKeys = new HashSet<>();
-        for (Map.Entry<Long, List<Long>> entry : roomSeqMap.entrySet()) {
-            List<ChatMessage> existingMessages = chatMessageRepository.findAllByChatRoom_IdAndRoomSequenceIn(
-                    entry.getKey(),
-                    entry.getValue()
-            );
-            for (ChatMessage message : existingMessages) {
-                existingRoomSeqKeys.add(message.getChatRoom().getId() + "::" + message.getRoomSequence());
+        for (ChatMessageBulkRepository.ExistingRow row : chatMessageBulkRepository.findExisting(keys)) {
+            String key = row.chatId() + "::" + row.roomSequence();
+            ChatMessagePersistRequestedEvent event = uniqueByRoomSeq.get(key);
+            if (event != null && !isSameMessage(event, row.senderId(), row.clientMessageId(), row.content())) {
+                throw sequenceCollision(event);
             }
+            existingRoomSeqKeys.add(key);
         }
 
-        List<ChatMessage> toSave = new ArrayList<>();
-        Map<Long, ChatRoom> roomMap = new HashMap<>();
-        Map<Long, User> userMap = new HashMap<>();
-
+        List<ChatMessageBulkRepository.NewRow> toInsert = new ArrayList<>();
         for (ChatMessagePersistRequestedEvent event : deduped) {
             String roomSeqKey = event.chatId() + "::" + event.roomSequence();
             if (existingRoomSeqKeys.contains(roomSeqKey)) {
                 continue;
             }
 
-            ChatRoom room = roomMap.computeIfAbsent(
-                    event.chatId(),
-                    id -> chatRoomRepository.getReferenceById(id)
-            );
-            User sender = userMap.computeIfAbsent(
-                    event.senderId(),
-                    id -> entityManager.getReference(User.class, id)
-            );
-
             MessageType messageType;
             try {
                 messageType = MessageType.valueOf(event.messageType());
@@ -154,40 +177,119 @@ public class ChatMessagePersistenceListener {
                 messageType = MessageType.TEXT;
             }
 
-            toSave.add(ChatMessage.builder()
-                    .chatRoom(room)
-                    .sender(sender)
-                    .messageType(messageType)
-                    .content(event.content())
-                    .roomSequence(event.roomSequence())
-                    .clientMessageId(event.clientMessageId())
-                    .build());
+            toInsert.add(new ChatMessageBulkRepository.NewRow(
+                    event.chatId(),
+                    event.senderId(),
+                    messageType.name(),
+                    event.content(),
+                    event.roomSequence(),
+                    event.clientMessageId()
+            ));
         }
 
-        if (!toSave.isEmpty()) {
-            List<ChatMessage> savedMessages = chatMessageRepository.saveAll(toSave);
-            updateChatRoomState(savedMessages);
+        if (!toInsert.isEmpty()) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            List<ChatMessageBulkRepository.InsertedRow> inserted = chatMessageBulkRepository.insertAll(toInsert);
+            sample.stop(meterRegistry.timer(PERSIST_METRIC_NAME));
+            meterRegistry.counter(PERSIST_ROWS_METRIC_NAME).increment(inserted.size());
+
+            updateChatRoomState(inserted);
+            putTailCacheAfterCommit(toInsert, inserted);
             log.debug("Kafka consumed chat persist batch. requested={}, accepted={}, inserted={}",
-                    batch.size(), deduped.size(), savedMessages.size());
+                    batch.size(), deduped.size(), inserted.size());
         }
     }
 
-    private void updateChatRoomState(Collection<ChatMessage> savedMessages) {
-        Map<Long, List<ChatMessage>> groupedByRoom = savedMessages.stream()
-                .collect(Collectors.groupingBy(m -> m.getChatRoom().getId()));
+    private static boolean isSameMessage(
+            ChatMessagePersistRequestedEvent event,
+            Long senderId,
+            String clientMessageId,
+            String content
+    ) {
+        return Objects.equals(event.senderId(), senderId)
+                && Objects.equals(event.clientMessageId(), clientMessageId)
+                && Objects.equals(event.content(), content);
+    }
+
+    private static IllegalStateException sequenceCollision(ChatMessagePersistRequestedEvent event) {
+        return new IllegalStateException("chat room sequence collision. chatId=" + event.chatId()
+                + ", roomSequence=" + event.roomSequence() + ", clientMessageId=" + event.clientMessageId());
+    }
+
+    // 실시간 payload(message_id 없음)를 저장 결과로 보강. 롤백 시 잘못된 id가 남지 않도록 커밋 이후 반영
+    private void putTailCacheAfterCommit(
+            List<ChatMessageBulkRepository.NewRow> requested,
+            List<ChatMessageBulkRepository.InsertedRow> inserted
+    ) {
+        if (chatMessageTailCache.isEmpty()) {
+            return;
+        }
+        Map<String, ChatMessageBulkRepository.NewRow> requestedByKey = new HashMap<>();
+        for (ChatMessageBulkRepository.NewRow row : requested) {
+            requestedByKey.put(row.chatId() + "::" + row.roomSequence(), row);
+        }
+        List<ChatRes.MessageInfo> messages = new ArrayList<>(inserted.size());
+        for (ChatMessageBulkRepository.InsertedRow row : inserted) {
+            ChatMessageBulkRepository.NewRow source = requestedByKey.get(row.chatId() + "::" + row.roomSequence());
+            if (source == null) {
+                continue;
+            }
+            messages.add(new ChatRes.MessageInfo(
+                    row.messageId(),
+                    row.chatId(),
+                    row.roomSequence(),
+                    new ChatRes.UserInfo(row.senderId(), null, null, null),
+                    source.messageType(),
+                    source.content(),
+                    source.clientMessageId(),
+                    row.createdAt()
+            ));
+        }
+
+        ChatMessageTailCache cache = chatMessageTailCache.get();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            messages.forEach(message -> cache.put(message.chatId(), message));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                messages.forEach(message -> cache.put(message.chatId(), message));
+            }
+        });
+    }
+
+    private void updateChatRoomState(Collection<ChatMessageBulkRepository.InsertedRow> inserted) {
+        Map<Long, List<ChatMessageBulkRepository.InsertedRow>> groupedByRoom = inserted.stream()
+                .collect(Collectors.groupingBy(ChatMessageBulkRepository.InsertedRow::chatId));
+
+        // 채팅방은 한 번에 로드, 메시지는 INSERT 결과로 충분하므로 프록시 참조만 사용
+        Map<Long, ChatRoom> roomMap = new HashMap<>();
+        for (ChatRoom room : chatRoomRepository.findAllById(groupedByRoom.keySet())) {
+            roomMap.put(room.getId(), room);
+        }
+
+        for (Map.Entry<Long, List<ChatMessageBulkRepository.InsertedRow>> entry : groupedByRoom.entrySet()) {
+            ChatRoom room = roomMap.get(entry.getKey());
+            if (room == null) {
+                continue;
+            }
 
-        for (List<ChatMessage> roomMessages : groupedByRoom.values()) {
-            roomMessages.sort((a, b) -> Long.compare(a.getRoomSequence(), b.getRoomSequence()));
-            ChatMessage latest = roomMessages.get(roomMessages.size() - 1);
-            ChatRoom room = latest.getChatRoom();
+            List<ChatMessageBulkRepository.InsertedRow> roomMessages = new ArrayList<>(entry.getValue());
+            roomMessages.sort((a, b) -> Long.compare(a.roomSequence(), b.roomSequence()));
+            ChatMessageBulkRepository.InsertedRow latest = roomMessages.get(roomMessages.size() - 1);
 
             Long currentSeq = room.getLastMessageSeq() != null ? room.getLastMessageSeq() : 0L;
-            if (latest.getRoomSequence() >= currentSeq) {
-                room.updateLastMessage(latest);
+            if (latest.roomSequence() >= currentSeq) {
+                room.updateLastMessage(
+                        entityManager.getReference(ChatMessage.class, latest.messageId()),
+                        latest.roomSequence(),
+                        latest.createdAt()
+                );
             }
 
-            for (ChatMessage saved : roomMessages) {
-                room.updateLastReadMessage(saved.getSender().getId(), saved);
+            for (ChatMessageBulkRepository.InsertedRow saved : roomMessages) {
+                room.updateLastReadSeq(saved.senderId(), saved.roomSequence());
             }
         }
     }
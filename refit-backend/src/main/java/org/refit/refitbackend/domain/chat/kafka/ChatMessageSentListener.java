@@ -4,8 +4,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.refit.refitbackend.domain.chat.entity.ChatRoom;
 import org.refit.refitbackend.domain.chat.entity.MessageType;
+import org.refit.refitbackend.domain.chat.kafka.event.ChatMessageEvent;
 import org.refit.refitbackend.domain.chat.kafka.event.ChatMessageSentEvent;
+import org.refit.refitbackend.domain.chat.presence.ChatPresenceRegistry;
+import org.refit.refitbackend.domain.chat.readstate.ChatReadStateBuffer;
 import org.refit.refitbackend.domain.chat.repository.ChatRoomRepository;
+import org.refit.refitbackend.domain.chat.unread.ChatUnreadCounterStore;
 import org.refit.refitbackend.domain.notification.kafka.NotificationEventPublisher;
 import org.refit.refitbackend.domain.notification.kafka.event.NotificationRequestedEvent;
 import org.refit.refitbackend.domain.notification.service.NotificationService;
@@ -27,10 +31,28 @@ public class ChatMessageSentListener {
     private final NotificationService notificationService;
     private final SseService sseService;
     private final ChatRoomRepository chatRoomRepository;
+    private final Optional<ChatReadStateBuffer> chatReadStateBuffer;
+    private final Optional<ChatUnreadCounterStore> chatUnreadCounterStore;
+    private final ChatPresenceRegistry chatPresenceRegistry;
 
     @Value("${app.notification.async.enabled:false}")
     private boolean notificationAsyncEnabled;
 
+    /**
+     * 통합 채팅 이벤트 토픽 소비 (영속화 소비자와 별도 group)
+     */
+    @KafkaListener(
+            topics = "${app.kafka.topics.chat-message-events:chat.message.events}",
+            groupId = "${spring.kafka.consumer.group-id:refit-backend}.chat-side-effect",
+            autoStartup = "${app.chat.events.combined.enabled:false}"
+    )
+    public void onChatMessageEvent(ChatMessageEvent event) {
+        if (event == null) {
+            return;
+        }
+        onMessageSent(event.toSent());
+    }
+
     @KafkaListener(
             topics = "${app.kafka.topics.chat-message-sent:chat.message.sent}",
             groupId = "${spring.kafka.consumer.group-id:refit-backend}"
@@ -45,12 +67,23 @@ public class ChatMessageSentListener {
                 return;
             }
 
-            long unreadCount = resolveUnreadCount(event.chatId(), event.receiverId(), event.roomSequence());
+            long unreadCount;
+            Long totalUnreadCount = null;
+            if (chatUnreadCounterStore.isPresent() && event.roomSequence() != null) {
+                // 카운터 활성화 시 채팅방 조회 없이 증분 갱신
+                ChatUnreadCounterStore counterStore = chatUnreadCounterStore.get();
+                counterStore.onRead(event.senderId(), event.chatId(), event.roomSequence());
+                unreadCount = counterStore.onMessage(event.receiverId(), event.chatId(), event.roomSequence());
+                totalUnreadCount = counterStore.totalUnread(event.receiverId());
+            } else {
+                unreadCount = resolveUnreadCount(event.chatId(), event.receiverId(), event.roomSequence());
+            }
             sseService.sendChatEvent(
                     event.receiverId(),
                     event.chatId(),
                     event.messageId() != null ? event.messageId() : 0L,
-                    unreadCount
+                    unreadCount,
+                    totalUnreadCount
             );
 
             handleNotification(event);
@@ -61,6 +94,13 @@ public class ChatMessageSentListener {
     }
 
     private void handleNotification(ChatMessageSentEvent event) {
+        // 수신자가 채팅방을 WebSocket 으로 보고 있으면 푸시 생략 (채팅 알림은 push-only라 누락되는 기록 없음)
+        if (chatPresenceRegistry.isActiveInRoom(event.receiverId(), event.chatId())) {
+            log.debug("Chat push skipped: receiver active in room. chatId={}, receiverId={}",
+                    event.chatId(), event.receiverId());
+            return;
+        }
+
         String title = "새 메시지가 도착했어요";
         String content = buildMessagePreview(event.content());
         String type = "CHAT_MESSAGE_RECEIVED";
@@ -107,6 +147,10 @@ public class ChatMessageSentListener {
             lastReadSeq = room.getReceiverLastReadSeq() != null ? room.getReceiverLastReadSeq() : 0L;
         }
 
+        if (chatReadStateBuffer.isPresent()) {
+            lastReadSeq = chatReadStateBuffer.get().lastReadSeq(chatId, receiverId, lastReadSeq);
+        }
+
         return Math.max(0L, roomSequence - lastReadSeq);
     }
 }
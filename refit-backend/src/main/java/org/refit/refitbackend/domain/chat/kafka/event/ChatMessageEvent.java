@@ -0,0 +1,28 @@
+package org.refit.refitbackend.domain.chat.kafka.event;
+
+/**
+ * 메시지당 하나만 발행하는 채팅 이벤트 (chatId 키, 채팅방 단위 순서 보장).
+ * 영속화 소비자와 부수효과(SSE/알림) 소비자가 같은 토픽을 서로 다른 group 으로 구독한다.
+ *
+ * @param persistRequired 비동기 저장 경로면 true, 요청 트랜잭션에서 이미 저장했으면 false (messageId 존재)
+ */
+public record ChatMessageEvent(
+        Long chatId,
+        Long messageId,
+        Long roomSequence,
+        Long senderId,
+        Long receiverId,
+        String messageType,
+        String content,
+        String clientMessageId,
+        boolean persistRequired
+) {
+
+    public ChatMessagePersistRequestedEvent toPersistRequested() {
+        return new ChatMessagePersistRequestedEvent(chatId, senderId, messageType, content, roomSequence, clientMessageId);
+    }
+
+    public ChatMessageSentEvent toSent() {
+        return new ChatMessageSentEvent(chatId, messageId, roomSequence, senderId, receiverId, messageType, content, clientMessageId);
+    }
+}
@@ -0,0 +1,33 @@
+package org.refit.refitbackend.domain.chat.membership;
+
+import org.refit.refitbackend.domain.chat.entity.ChatRoomStatus;
+
+/**
+ * 채팅방 참여 정보 스냅샷. lastMessageSeq 는 적재 시점 값이므로 seq 발급 하한으로만 사용한다.
+ * archived 이면 메시지는 chat_messages_archive 에서 조회한다.
+ */
+public record ChatRoomMembership(
+        Long roomId,
+        Long requesterId,
+        Long receiverId,
+        ChatRoomStatus status,
+        long lastMessageSeq,
+        boolean archived
+) {
+
+    public boolean isParticipant(Long userId) {
+        return requesterId.equals(userId) || receiverId.equals(userId);
+    }
+
+    public boolean isRequester(Long userId) {
+        return requesterId.equals(userId);
+    }
+
+    public Long counterpartOf(Long userId) {
+        return requesterId.equals(userId) ? receiverId : requesterId;
+    }
+
+    public boolean isClosed() {
+        return status == ChatRoomStatus.CLOSED;
+    }
+}
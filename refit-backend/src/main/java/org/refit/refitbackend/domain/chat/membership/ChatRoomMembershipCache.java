@@ -0,0 +1,103 @@
+package org.refit.refitbackend.domain.chat.membership;
+
+import org.refit.refitbackend.domain.chat.repository.ChatRoomRepository;
+import org.refit.refitbackend.global.error.CustomException;
+import org.refit.refitbackend.global.error.ExceptionType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 채팅방 참여 여부 확인용 로컬 캐시. 참여자는 바뀌지 않고 상태는 ACTIVE -> CLOSED 한 방향이므로
+ * 종료 시점에만 무효화하면 된다. 다른 노드는 Redis 브로드캐스트로 무효화한다.
+ */
+@Component
+public class ChatRoomMembershipCache {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final Optional<RedisChatRoomMembershipBroadcaster> broadcaster;
+    private final long ttlMs;
+    private final Map<Long, Entry> rooms;
+
+    public ChatRoomMembershipCache(
+            ChatRoomRepository chatRoomRepository,
+            Optional<RedisChatRoomMembershipBroadcaster> broadcaster,
+            @Value("${app.chat.membership-cache.max-rooms:20000}") int maxRooms,
+            @Value("${app.chat.membership-cache.ttl-seconds:600}") long ttlSeconds
+    ) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.broadcaster = broadcaster;
+        this.ttlMs = ttlSeconds * 1000L;
+        this.rooms = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxRooms;
+            }
+        });
+    }
+
+    /**
+     * 참여자가 아니거나 채팅방이 없으면 CHAT_ROOM_NOT_FOUND.
+     */
+    public ChatRoomMembership get(Long roomId, Long userId) {
+        ChatRoomMembership membership = load(roomId);
+        if (membership == null || !membership.isParticipant(userId)) {
+            throw new CustomException(ExceptionType.CHAT_ROOM_NOT_FOUND);
+        }
+        return membership;
+    }
+
+    public void evict(Long roomId) {
+        rooms.remove(roomId);
+    }
+
+    /**
+     * 상태 변경 커밋 이후 로컬/원격 캐시를 함께 무효화한다.
+     * 커밋 전에 지우면 다른 요청이 변경 전 상태를 다시 적재할 수 있다.
+     */
+    public void invalidateAfterCommit(Long roomId) {
+        evict(roomId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            broadcaster.ifPresent(b -> b.broadcast(roomId));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(roomId);
+                broadcaster.ifPresent(b -> b.broadcast(roomId));
+            }
+        });
+    }
+
+    private ChatRoomMembership load(Long roomId) {
+        Entry entry = rooms.get(roomId);
+        if (entry != null && entry.expiresAtMs >= System.currentTimeMillis()) {
+            return entry.membership;
+        }
+
+        ChatRoomMembership membership = chatRoomRepository.findMembershipById(roomId)
+                .map(row -> new ChatRoomMembership(
+                        row.getRoomId(),
+                        row.getRequesterId(),
+                        row.getReceiverId(),
+                        row.getStatus(),
+                        row.getLastMessageSeq() != null ? row.getLastMessageSeq() : 0L,
+                        row.getArchivedAt() != null
+                ))
+                .orElse(null);
+        if (membership != null) {
+            rooms.put(roomId, new Entry(membership, System.currentTimeMillis() + ttlMs));
+        }
+        return membership;
+    }
+
+    private record Entry(ChatRoomMembership membership, long expiresAtMs) {
+    }
+}
@@ -0,0 +1,54 @@
+package org.refit.refitbackend.domain.chat.membership;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 채팅방 참여 캐시 무효화 브로드캐스트. 자기 자신이 보낸 메시지도 수신하지만 제거는 멱등이다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.chat.realtime.redis.enabled", havingValue = "true")
+public class RedisChatRoomMembershipBroadcaster implements MessageListener {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+    private final String channel;
+
+    public RedisChatRoomMembershipBroadcaster(
+            StringRedisTemplate stringRedisTemplate,
+            @Lazy ChatRoomMembershipCache chatRoomMembershipCache,
+            @Value("${app.chat.membership-cache.channel:chat.membership.invalidate}") String channel
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.chatRoomMembershipCache = chatRoomMembershipCache;
+        this.channel = channel;
+    }
+
+    public void broadcast(Long roomId) {
+        try {
+            stringRedisTemplate.convertAndSend(channel, String.valueOf(roomId));
+        } catch (Exception e) {
+            // 원격 노드는 TTL 만료로 수렴한다.
+            log.warn("Chat membership invalidation broadcast failed. roomId={}", roomId, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            chatRoomMembershipCache.evict(Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("Invalid chat membership invalidation message. body={}",
+                    new String(message.getBody(), StandardCharsets.UTF_8));
+        }
+    }
+}
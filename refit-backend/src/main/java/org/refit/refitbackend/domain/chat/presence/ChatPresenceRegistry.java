@@ -0,0 +1,150 @@
+package org.refit.refitbackend.domain.chat.presence;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.refit.refitbackend.domain.chat.realtime.ChatRoomSubscriptionListener;
+import org.refit.refitbackend.domain.chat.realtime.ChatRoomSubscriptionTracker;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자 접속 상태. STOMP CONNECT/DISCONNECT 와 SSE 구독/종료로 노드 로컬 연결 수를 세어 Redis 하트비트 대상을 정하고,
+ * 채팅방 단위 활성 여부는 ChatRoomSubscriptionTracker 의 /queue/chat.{id} 구독으로 판단한다.
+ * Redis 저장소가 켜져 있으면 로컬에 없을 때 클러스터 뷰(TTL 하트비트)를 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatPresenceRegistry implements ChatRoomSubscriptionListener {
+
+    private final ChatRoomSubscriptionTracker chatRoomSubscriptionTracker;
+    private final Optional<RedisChatPresenceStore> redisChatPresenceStore;
+
+    // 가상 스레드 carrier 고정을 피하려고 synchronized 대신 ReentrantLock 사용
+    private final ReentrantLock lock = new ReentrantLock();
+    // STOMP sessionId -> userId (DISCONNECT 이벤트 중복 발행 대비)
+    private final Map<String, Long> stompSessions = new ConcurrentHashMap<>();
+    // userId -> 연결 수 (STOMP 세션 + SSE emitter), lock 안에서만 변경
+    private final Map<Long, Integer> connectionCounts = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void register() {
+        chatRoomSubscriptionTracker.addListener(this);
+    }
+
+    /**
+     * 사용자가 해당 채팅방을 WebSocket 으로 보고 있는지(/queue/chat.{id} 구독 중) 여부.
+     */
+    public boolean isActiveInRoom(Long userId, Long chatId) {
+        if (userId == null || chatId == null) {
+            return false;
+        }
+        if (chatRoomSubscriptionTracker.isUserSubscribed(userId, chatId)) {
+            return true;
+        }
+        return redisChatPresenceStore.map(store -> store.isActiveInRoom(userId, chatId)).orElse(false);
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        Long userId = parseUserId(event.getUser());
+        String sessionId = StompHeaderAccessor.wrap(event.getMessage()).getSessionId();
+        if (userId == null || sessionId == null || stompSessions.putIfAbsent(sessionId, userId) != null) {
+            return;
+        }
+        connected(userId);
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Long userId = event.getSessionId() != null ? stompSessions.remove(event.getSessionId()) : null;
+        if (userId != null) {
+            disconnected(userId);
+        }
+    }
+
+    public void onSseConnected(Long userId) {
+        connected(userId);
+    }
+
+    public void onSseClosed(Long userId) {
+        disconnected(userId);
+    }
+
+    @Override
+    public void onUserJoined(Long userId, Long chatId) {
+        redisChatPresenceStore.ifPresent(store -> store.markInRoom(userId, chatId));
+    }
+
+    @Override
+    public void onUserLeft(Long userId, Long chatId) {
+        redisChatPresenceStore.ifPresent(store -> store.markLeftRoom(userId, chatId));
+    }
+
+    /**
+     * 로컬 연결 사용자/채팅방을 TTL 로 갱신한다. 이벤트 기반 갱신이 실패하거나 순서가 뒤바뀐 경우도 여기서 바로잡힌다.
+     */
+    @Scheduled(fixedDelayString = "${app.chat.presence.redis.heartbeat-interval-ms:20000}")
+    public void heartbeat() {
+        if (redisChatPresenceStore.isEmpty()) {
+            return;
+        }
+        try {
+            Set<Long> onlineUsers = new HashSet<>(connectionCounts.keySet());
+            redisChatPresenceStore.get().heartbeat(onlineUsers, chatRoomSubscriptionTracker.userRoomsSnapshot());
+        } catch (Exception e) {
+            log.warn("Chat presence heartbeat failed", e);
+        }
+    }
+
+    private void connected(Long userId) {
+        boolean first;
+        lock.lock();
+        try {
+            first = connectionCounts.merge(userId, 1, Integer::sum) == 1;
+        } finally {
+            lock.unlock();
+        }
+        if (first) {
+            redisChatPresenceStore.ifPresent(store -> store.markOnline(userId));
+        }
+    }
+
+    private void disconnected(Long userId) {
+        boolean last;
+        lock.lock();
+        try {
+            last = connectionCounts.containsKey(userId)
+                    && connectionCounts.computeIfPresent(userId, (id, count) -> count > 1 ? count - 1 : null) == null;
+        } finally {
+            lock.unlock();
+        }
+        if (last) {
+            redisChatPresenceStore.ifPresent(store -> store.markOffline(userId));
+        }
+    }
+
+    private static Long parseUserId(Principal user) {
+        if (user == null || user.getName() == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(user.getName());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
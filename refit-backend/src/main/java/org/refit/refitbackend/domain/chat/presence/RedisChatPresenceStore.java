@@ -0,0 +1,135 @@
+package org.refit.refitbackend.domain.chat.presence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 클러스터 접속 상태. 사용자별 ZSET chat:presence:{userId} 에 노드 단위 멤버
+ * (online@{nodeId}, room:{chatId}@{nodeId})를 만료 시각(score)과 함께 기록한다.
+ * 노드가 죽으면 하트비트가 끊겨 만료 시각이 지난 멤버는 조회에서 제외되고 다음 하트비트에서 정리된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.chat.presence.redis.enabled", havingValue = "true")
+public class RedisChatPresenceStore {
+
+    private static final String KEY_PREFIX = "chat:presence:";
+    private static final String ONLINE_PREFIX = "online@";
+    private static final String ROOM_PREFIX = "room:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String nodeId;
+    private final long ttlMs;
+
+    public RedisChatPresenceStore(
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${app.chat.presence.redis.node-id:}") String nodeId,
+            @Value("${app.chat.presence.redis.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        this.ttlMs = ttlSeconds * 1000L;
+    }
+
+    public void markOnline(Long userId) {
+        add(userId, ONLINE_PREFIX + nodeId);
+    }
+
+    public void markOffline(Long userId) {
+        remove(userId, ONLINE_PREFIX + nodeId);
+    }
+
+    public void markInRoom(Long userId, Long chatId) {
+        add(userId, roomMember(chatId));
+    }
+
+    public void markLeftRoom(Long userId, Long chatId) {
+        remove(userId, roomMember(chatId));
+    }
+
+    public boolean isActiveInRoom(Long userId, Long chatId) {
+        return hasLiveMember(userId, ROOM_PREFIX + chatId + "@");
+    }
+
+    /**
+     * 이 노드의 접속 사용자/채팅방 멤버 만료 시각을 연장하고, 만료된 멤버를 정리한다. (사용자당 3~4 명령, 한 번의 pipeline)
+     */
+    public void heartbeat(Collection<Long> onlineUsers, Map<Long, List<Long>> userRooms) {
+        if (onlineUsers.isEmpty() && userRooms.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        double expiresAt = now + ttlMs;
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            for (Long userId : onlineUsers) {
+                String key = key(userId);
+                redis.zAdd(key, expiresAt, ONLINE_PREFIX + nodeId);
+                for (Long chatId : userRooms.getOrDefault(userId, List.of())) {
+                    redis.zAdd(key, expiresAt, roomMember(chatId));
+                }
+                redis.zRemRangeByScore(key, 0, now);
+                redis.pExpire(key, ttlMs);
+            }
+            return null;
+        });
+    }
+
+    private void add(Long userId, String member) {
+        try {
+            String key = key(userId);
+            stringRedisTemplate.opsForZSet().add(key, member, System.currentTimeMillis() + ttlMs);
+            stringRedisTemplate.expire(key, Duration.ofMillis(ttlMs));
+        } catch (Exception e) {
+            log.warn("Chat presence update failed. userId={}, member={}", userId, member, e);
+        }
+    }
+
+    private void remove(Long userId, String member) {
+        try {
+            stringRedisTemplate.opsForZSet().remove(key(userId), member);
+        } catch (Exception e) {
+            log.warn("Chat presence removal failed. userId={}, member={}", userId, member, e);
+        }
+    }
+
+    // Redis 장애 시 false (푸시를 생략하지 않는 쪽으로 실패)
+    private boolean hasLiveMember(Long userId, String prefix) {
+        try {
+            Set<String> members = stringRedisTemplate.opsForZSet()
+                    .rangeByScore(key(userId), System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+            if (members == null) {
+                return false;
+            }
+            for (String member : members) {
+                if (member.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (Exception e) {
+            log.warn("Chat presence lookup failed. userId={}", userId, e);
+            return false;
+        }
+    }
+
+    private String roomMember(Long chatId) {
+        return ROOM_PREFIX + chatId + "@" + nodeId;
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
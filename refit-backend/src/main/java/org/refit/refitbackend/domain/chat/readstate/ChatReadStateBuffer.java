@@ -0,0 +1,79 @@
+package org.refit.refitbackend.domain.chat.readstate;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.refit.refitbackend.domain.chat.repository.ChatRoomBulkRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 읽음 커서 write-behind 버퍼.
+ * 채팅방/사용자별 최대 seq 만 메모리에 유지하고 주기적으로 일괄 UPDATE 한다.
+ * UPDATE 는 더 큰 값일 때만 반영되므로 여러 노드가 각자 flush 해도 단조성이 유지된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.chat.read-state.write-behind.enabled", havingValue = "true")
+public class ChatReadStateBuffer {
+
+    private final ChatRoomBulkRepository chatRoomBulkRepository;
+
+    private final ConcurrentHashMap<ReadKey, ChatRoomBulkRepository.ReadCursor> pending = new ConcurrentHashMap<>();
+
+    public void record(Long roomId, Long userId, boolean requester, long lastReadSeq) {
+        pending.merge(
+                new ReadKey(roomId, userId),
+                new ChatRoomBulkRepository.ReadCursor(roomId, userId, requester, lastReadSeq),
+                (current, next) -> current.lastReadSeq() >= next.lastReadSeq() ? current : next
+        );
+    }
+
+    /**
+     * flush 전 값 조회용. 보류 중인 커서가 없으면 fallback(DB 값)을 그대로 반환한다.
+     */
+    public long lastReadSeq(Long roomId, Long userId, long fallback) {
+        ChatRoomBulkRepository.ReadCursor cursor = pending.get(new ReadKey(roomId, userId));
+        return cursor == null ? fallback : Math.max(cursor.lastReadSeq(), fallback);
+    }
+
+    @Scheduled(fixedDelayString = "${app.chat.read-state.write-behind.flush-interval-ms:300}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 반영(커밋) 전까지는 항목을 남겨 lastReadSeq() 가 이전 DB 값으로 돌아가지 않게 한다
+        List<ChatRoomBulkRepository.ReadCursor> batch = new ArrayList<>(pending.values());
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            chatRoomBulkRepository.updateLastReadSeqsIfGreater(batch);
+        } catch (Exception e) {
+            // 항목이 그대로 남아 있으므로 다음 주기에 재시도
+            log.warn("Chat read cursor flush failed. size={}", batch.size(), e);
+            return;
+        }
+        // 반영 중 더 큰 seq 로 갱신된 항목은 남겨 다음 주기에 반영 (record 는 갱신 시에만 새 값으로 교체)
+        for (ChatRoomBulkRepository.ReadCursor cursor : batch) {
+            pending.remove(new ReadKey(cursor.roomId(), cursor.userId()), cursor);
+        }
+        log.debug("Chat read cursors flushed. size={}", batch.size());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private record ReadKey(Long roomId, Long userId) {
+    }
+}
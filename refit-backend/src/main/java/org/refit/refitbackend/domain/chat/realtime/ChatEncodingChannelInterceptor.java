@@ -0,0 +1,34 @@
+package org.refit.refitbackend.domain.chat.realtime;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * SUBSCRIBE /queue/chat.{id} + x-chat-encoding:cbor 를 포맷별 목적지(/queue/chat.{id}.cbor)로 바꾼다.
+ * 클라이언트의 subscription id 는 그대로이므로 수신 프레임의 subscription 헤더는 변하지 않는다.
+ */
+@Component
+public class ChatEncodingChannelInterceptor implements ChannelInterceptor {
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            return message;
+        }
+        ChatWireFormat format = ChatWireFormat.fromHeader(accessor.getFirstNativeHeader(ChatWireFormat.ENCODING_HEADER));
+        if (format == ChatWireFormat.JSON) {
+            return message;
+        }
+        ChatWireFormat.ChatDestination destination = ChatWireFormat.parseDestination(accessor.getDestination());
+        if (destination != null && destination.format() == ChatWireFormat.JSON) {
+            accessor.setDestination(format.destination(destination.chatId()));
+        }
+        return message;
+    }
+}
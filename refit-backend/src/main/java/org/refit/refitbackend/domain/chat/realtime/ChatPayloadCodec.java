@@ -0,0 +1,85 @@
+package org.refit.refitbackend.domain.chat.realtime;
+
+import org.refit.refitbackend.domain.chat.dto.ChatRes;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.DeserializationConfig;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.MapperFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SerializationConfig;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.cfg.DatatypeFeature;
+import tools.jackson.databind.cfg.DateTimeFeature;
+import tools.jackson.databind.cfg.EnumFeature;
+import tools.jackson.databind.cfg.JsonNodeFeature;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 채팅 payload 포맷별 인코딩/변환. JSON 은 애플리케이션 ObjectMapper 로 직렬화하고,
+ * CBOR 은 그 설정(네이밍 전략, 모듈, 기능 플래그)을 그대로 옮긴 mapper 를 써서
+ * Redis 구간 포맷이나 봉투 방식과 관계없이 두 포맷의 필드 이름/값 형식이 같게 한다.
+ */
+@Component
+public class ChatPayloadCodec {
+
+    private final ObjectMapper objectMapper;
+    private final CBORMapper cborMapper;
+
+    public ChatPayloadCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.cborMapper = cborMapperLike(objectMapper);
+    }
+
+    public byte[] encode(ChatRes.MessageInfo payload, ChatWireFormat format) {
+        return mapperOf(format).writeValueAsBytes(payload);
+    }
+
+    public byte[] transcode(byte[] payload, ChatWireFormat from, ChatWireFormat to) {
+        if (from == to) {
+            return payload;
+        }
+        return mapperOf(to).writeValueAsBytes(mapperOf(from).readTree(payload));
+    }
+
+    private ObjectMapper mapperOf(ChatWireFormat format) {
+        return format == ChatWireFormat.CBOR ? cborMapper : objectMapper;
+    }
+
+    private static CBORMapper cborMapperLike(ObjectMapper objectMapper) {
+        SerializationConfig serialization = objectMapper.serializationConfig();
+        DeserializationConfig deserialization = objectMapper.deserializationConfig();
+        CBORMapper.Builder builder = CBORMapper.builder()
+                .addModules(objectMapper.registeredModules())
+                .changeDefaultPropertyInclusion(ignored -> serialization.getDefaultPropertyInclusion());
+        if (serialization.getPropertyNamingStrategy() != null) {
+            builder.propertyNamingStrategy(serialization.getPropertyNamingStrategy());
+        }
+        if (serialization.getEnumNamingStrategy() != null) {
+            builder.enumNamingStrategy(serialization.getEnumNamingStrategy());
+        }
+        for (MapperFeature feature : MapperFeature.values()) {
+            builder.configure(feature, serialization.isEnabled(feature));
+        }
+        for (SerializationFeature feature : SerializationFeature.values()) {
+            builder.configure(feature, serialization.isEnabled(feature));
+        }
+        for (DeserializationFeature feature : DeserializationFeature.values()) {
+            builder.configure(feature, deserialization.isEnabled(feature));
+        }
+        for (DatatypeFeature feature : datatypeFeatures()) {
+            builder.configure(feature, serialization.isEnabled(feature));
+        }
+        return builder.build();
+    }
+
+    private static List<DatatypeFeature> datatypeFeatures() {
+        List<DatatypeFeature> features = new ArrayList<>();
+        features.addAll(List.of(DateTimeFeature.values()));
+        features.addAll(List.of(EnumFeature.values()));
+        features.addAll(List.of(JsonNodeFeature.values()));
+        return features;
+    }
+}
@@ -0,0 +1,39 @@
+package org.refit.refitbackend.domain.chat.realtime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 채팅 브로드캐스트 채널 이름 규칙. 샤딩 시 {channel}.{chatId mod shards}.
+ */
+@Component
+@ConditionalOnProperty(name = "app.chat.realtime.redis.enabled", havingValue = "true")
+public class ChatRealtimeChannels {
+
+    private final String channel;
+    private final boolean sharded;
+    private final int shards;
+
+    public ChatRealtimeChannels(
+            @Value("${app.chat.realtime.redis.channel:chat.message.broadcast}") String channel,
+            @Value("${app.chat.realtime.redis.sharding.enabled:false}") boolean sharded,
+            @Value("${app.chat.realtime.redis.sharding.shards:64}") int shards
+    ) {
+        this.channel = channel;
+        this.sharded = sharded;
+        this.shards = Math.max(1, shards);
+    }
+
+    public String channelOf(Long chatId) {
+        return sharded ? shardChannel(shardOf(chatId)) : channel;
+    }
+
+    public int shardOf(Long chatId) {
+        return (int) Math.floorMod(chatId, (long) shards);
+    }
+
+    public String shardChannel(int shard) {
+        return channel + "." + shard;
+    }
+}
@@ -0,0 +1,49 @@
+package org.refit.refitbackend.domain.chat.realtime;
+
+import lombok.RequiredArgsConstructor;
+import org.refit.refitbackend.domain.chat.dto.ChatRes;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 노드의 채팅방 구독자에게 직렬화된 payload 를 전달한다.
+ * 로컬 구독자가 있는 포맷만, 메시지당 포맷별 한 번만 인코딩해 같은 바이트를 브로커 fan-out 에 넘긴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatRealtimeDelivery {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatRoomSubscriptionTracker chatRoomSubscriptionTracker;
+    private final ChatPayloadCodec chatPayloadCodec;
+
+    /**
+     * 노드 로컬 발행용. 구독자가 있는 포맷마다 payload 를 바로 인코딩한다.
+     */
+    public void deliver(Long chatId, ChatRes.MessageInfo payload) {
+        for (ChatWireFormat format : ChatWireFormat.values()) {
+            if (chatRoomSubscriptionTracker.hasLocalSubscribers(chatId, format)) {
+                send(chatId, format, chatPayloadCodec.encode(payload, format));
+            }
+        }
+    }
+
+    public void deliver(Long chatId, ChatWireFormat sourceFormat, byte[] source) {
+        for (ChatWireFormat format : ChatWireFormat.values()) {
+            if (chatRoomSubscriptionTracker.hasLocalSubscribers(chatId, format)) {
+                send(chatId, format, chatPayloadCodec.transcode(source, sourceFormat, format));
+            }
+        }
+    }
+
+    public void send(Long chatId, ChatWireFormat format, byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(format.mimeType());
+        accessor.setNativeHeader(ChatWireFormat.ENCODING_HEADER, format.headerValue());
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(format.destination(chatId), MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+    }
+}
@@ -0,0 +1,44 @@
+package org.refit.refitbackend.domain.chat.realtime;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Redis 채팅 브로드캐스트용 고정 길이 바이너리 헤더.
+ * [format 1B][chatId 8B][payload ...] 형태로, 수신 노드는 payload 를 다시 파싱하지 않고 그대로 STOMP 로 전달한다.
+ * 첫 바이트는 payload 포맷 코드(0x00 JSON, 0x01 CBOR)이며, JSON 본문은 '{' 로 시작하므로 기존 JSON 메시지와 구분된다.
+ */
+public final class ChatRealtimeEnvelope {
+
+    static final int HEADER_SIZE = 1 + Long.BYTES;
+
+    private ChatRealtimeEnvelope() {}
+
+    public static byte[] encode(long chatId, ChatWireFormat format, byte[] payload) {
+        return ByteBuffer.allocate(HEADER_SIZE + payload.length)
+                .put(format.code())
+                .putLong(chatId)
+                .put(payload)
+                .array();
+    }
+
+    public static boolean isEnvelope(byte[] body) {
+        return body != null && body.length > HEADER_SIZE && ChatWireFormat.fromCode(body[0]) != null;
+    }
+
+    public static ChatWireFormat format(byte[] body) {
+        return ChatWireFormat.fromCode(body[0]);
+    }
+
+    public static long chatId(byte[] body) {
+        return ByteBuffer.wrap(body, 1, Long.BYTES).getLong();
+    }
+
+    /**
+     * payload 구간만 복사한다. (STOMP 프레임 본문은 byte[] 단위로 전달되므로 한 번의 복사는 불가피)
+     */
+    public static byte[] payload(byte[] body) {
+        byte[] payload = new byte[body.length - HEADER_SIZE];
+        System.arraycopy(body, HEADER_SIZE, payload, 0, payload.length);
+        return payload;
+    }
+}
@@ -0,0 +1,20 @@
+package org.refit.refitbackend.domain.chat.realtime;
+
+/**
+ * 노드 로컬 채팅방 구독 상태 변화 콜백. 채팅방 단위로 첫 구독/마지막 구독 해제 시점에만 호출된다.
+ * 사용자 단위 콜백은 같은 사용자가 해당 채팅방을 처음 구독/모두 해제했을 때 호출된다.
+ */
+public interface ChatRoomSubscriptionListener {
+
+    default void onFirstSubscriber(Long chatId) {
+    }
+
+    default void onLastSubscriberGone(Long chatId) {
+    }
+
+    default void onUserJoined(Long userId, Long chatId) {
+    }
+
+    default void onUserLeft(Long userId, Long chatId) {
+    }
+}
@@ -0,0 +1,204 @@
+package org.refit.refitbackend.domain.chat.realtime;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 이 노드의 STOMP 세션이 구독 중인 /queue/chat.{id} 를 SUBSCRIBE/UNSUBSCRIBE/DISCONNECT 이벤트로 추적한다.
+ * 전송 포맷(JSON/CBOR)별 구독 수도 함께 세어, 구독자가 있는 포맷으로만 인코딩하게 한다.
+ */
+@Slf4j
+@Component
+public class ChatRoomSubscriptionTracker {
+
+    // 가상 스레드 carrier 고정을 피하려고 synchronized 대신 ReentrantLock 사용
+    private final ReentrantLock lock = new ReentrantLock();
+    // sessionId -> (subscriptionId -> chatId + format), lock 안에서만 변경
+    private final Map<String, Map<String, ChatWireFormat.ChatDestination>> sessions = new HashMap<>();
+    private final Map<Long, Integer> roomSubscriberCounts = new ConcurrentHashMap<>();
+    private final Map<ChatWireFormat.ChatDestination, Integer> formatSubscriberCounts = new ConcurrentHashMap<>();
+    // sessionId -> userId (인증된 세션만), lock 안에서만 변경
+    private final Map<String, Long> sessionUsers = new HashMap<>();
+    // userId -> (chatId -> 구독 수), 변경은 lock 안에서만
+    private final Map<Long, Map<Long, Integer>> userRoomCounts = new ConcurrentHashMap<>();
+    private final List<ChatRoomSubscriptionListener> listeners = new CopyOnWriteArrayList<>();
+
+    public void addListener(ChatRoomSubscriptionListener listener) {
+        listeners.add(listener);
+    }
+
+    public boolean hasLocalSubscribers(Long chatId) {
+        return roomSubscriberCounts.containsKey(chatId);
+    }
+
+    public boolean hasLocalSubscribers(Long chatId, ChatWireFormat format) {
+        return formatSubscriberCounts.containsKey(new ChatWireFormat.ChatDestination(chatId, format));
+    }
+
+    public boolean isUserSubscribed(Long userId, Long chatId) {
+        Map<Long, Integer> rooms = userRoomCounts.get(userId);
+        return rooms != null && rooms.containsKey(chatId);
+    }
+
+    /**
+     * 이 노드에서 채팅방을 구독 중인 사용자별 chatId 스냅샷.
+     */
+    public Map<Long, List<Long>> userRoomsSnapshot() {
+        Map<Long, List<Long>> snapshot = new HashMap<>();
+        userRoomCounts.forEach((userId, rooms) -> snapshot.put(userId, List.copyOf(rooms.keySet())));
+        return snapshot;
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        ChatWireFormat.ChatDestination destination = ChatWireFormat.parseDestination(accessor.getDestination());
+        if (destination == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), destination, parseUserId(event.getUser()));
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        if (accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        disconnect(event.getSessionId());
+    }
+
+    private void subscribe(String sessionId, String subscriptionId, ChatWireFormat.ChatDestination destination, Long userId) {
+        lock.lock();
+        try {
+            if (userId != null) {
+                sessionUsers.put(sessionId, userId);
+            }
+            ChatWireFormat.ChatDestination previous =
+                    sessions.computeIfAbsent(sessionId, id -> new HashMap<>()).put(subscriptionId, destination);
+            if (previous != null) {
+                decrement(previous, userId);
+            }
+            increment(destination, userId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void unsubscribe(String sessionId, String subscriptionId) {
+        lock.lock();
+        try {
+            Map<String, ChatWireFormat.ChatDestination> subscriptions = sessions.get(sessionId);
+            if (subscriptions == null) {
+                return;
+            }
+            ChatWireFormat.ChatDestination destination = subscriptions.remove(subscriptionId);
+            Long userId = sessionUsers.get(sessionId);
+            if (subscriptions.isEmpty()) {
+                sessions.remove(sessionId);
+                sessionUsers.remove(sessionId);
+            }
+            if (destination != null) {
+                decrement(destination, userId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void disconnect(String sessionId) {
+        lock.lock();
+        try {
+            Map<String, ChatWireFormat.ChatDestination> subscriptions = sessions.remove(sessionId);
+            Long userId = sessionUsers.remove(sessionId);
+            if (subscriptions != null) {
+                subscriptions.values().forEach(destination -> decrement(destination, userId));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void increment(ChatWireFormat.ChatDestination destination, Long userId) {
+        formatSubscriberCounts.merge(destination, 1, Integer::sum);
+        if (userId != null && userRoomCounts.computeIfAbsent(userId, id -> new ConcurrentHashMap<>())
+                .merge(destination.chatId(), 1, Integer::sum) == 1) {
+            notifyUserListeners(userId, destination.chatId(), true);
+        }
+        if (roomSubscriberCounts.merge(destination.chatId(), 1, Integer::sum) == 1) {
+            notifyListeners(destination.chatId(), true);
+        }
+    }
+
+    private void decrement(ChatWireFormat.ChatDestination destination, Long userId) {
+        formatSubscriberCounts.computeIfPresent(destination, (key, count) -> count > 1 ? count - 1 : null);
+        Long chatId = destination.chatId();
+        Map<Long, Integer> rooms = userId != null ? userRoomCounts.get(userId) : null;
+        if (rooms != null && rooms.containsKey(chatId) && rooms.computeIfPresent(chatId, (id, count) -> count > 1 ? count - 1 : null) == null) {
+            if (rooms.isEmpty()) {
+                userRoomCounts.remove(userId);
+            }
+            notifyUserListeners(userId, chatId, false);
+        }
+        if (roomSubscriberCounts.computeIfPresent(chatId, (id, count) -> count > 1 ? count - 1 : null) == null) {
+            notifyListeners(chatId, false);
+        }
+    }
+
+    private void notifyListeners(Long chatId, boolean first) {
+        for (ChatRoomSubscriptionListener listener : listeners) {
+            try {
+                if (first) {
+                    listener.onFirstSubscriber(chatId);
+                } else {
+                    listener.onLastSubscriberGone(chatId);
+                }
+            } catch (Exception e) {
+                log.warn("Chat room subscription listener failed. chatId={}", chatId, e);
+            }
+        }
+    }
+
+    private void notifyUserListeners(Long userId, Long chatId, boolean joined) {
+        for (ChatRoomSubscriptionListener listener : listeners) {
+            try {
+                if (joined) {
+                    listener.onUserJoined(userId, chatId);
+                } else {
+                    listener.onUserLeft(userId, chatId);
+                }
+            } catch (Exception e) {
+                log.warn("Chat room user subscription listener failed. userId={}, chatId={}", userId, chatId, e);
+            }
+        }
+    }
+
+    private static Long parseUserId(Principal user) {
+        if (user == null || user.getName() == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(user.getName());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.refit.refitbackend.domain.chat.realtime;
+
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 채팅 메시지 전송 인코딩. 클라이언트는 SUBSCRIBE 헤더 x-chat-encoding 으로 선택하고,
+ * 포맷별로 /queue/chat.{id}{suffix} 목적지를 따로 두어 브로커가 같은 바이트를 구독자 전체에 재사용하게 한다.
+ * SockJS 는 텍스트 프레임만 전달하므로 CBOR 은 순수 WebSocket 엔드포인트에서만 요청해야 한다.
+ */
+public enum ChatWireFormat {
+
+    JSON((byte) 0x00, MimeTypeUtils.APPLICATION_JSON, ""),
+    // StompSubProtocolHandler 는 application/octet-stream 일 때만 바이너리 WebSocket 프레임으로 내보낸다.
+    CBOR((byte) 0x01, MimeTypeUtils.APPLICATION_OCTET_STREAM, ".cbor");
+
+    public static final String ENCODING_HEADER = "x-chat-encoding";
+    private static final String CHAT_DESTINATION_PREFIX = "/queue/chat.";
+
+    private final byte code;
+    private final MimeType mimeType;
+    private final String destinationSuffix;
+
+    ChatWireFormat(byte code, MimeType mimeType, String destinationSuffix) {
+        this.code = code;
+        this.mimeType = mimeType;
+        this.destinationSuffix = destinationSuffix;
+    }
+
+    public String headerValue() {
+        return name().toLowerCase();
+    }
+
+    public byte code() {
+        return code;
+    }
+
+    public MimeType mimeType() {
+        return mimeType;
+    }
+
+    public String destination(Long chatId) {
+        return CHAT_DESTINATION_PREFIX + chatId + destinationSuffix;
+    }
+
+    public static ChatWireFormat fromCode(byte code) {
+        for (ChatWireFormat format : values()) {
+            if (format.code == code) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 헤더 값이 없거나 모르는 값이면 JSON.
+     */
+    public static ChatWireFormat fromHeader(String value) {
+        return "cbor".equalsIgnoreCase(value) ? CBOR : JSON;
+    }
+
+    /**
+     * /queue/chat.{id} 또는 /queue/chat.{id}.cbor 를 해석한다. 채팅방 목적지가 아니면 null.
+     */
+    public static ChatDestination parseDestination(String destination) {
+        if (destination == null || !destination.startsWith(CHAT_DESTINATION_PREFIX)) {
+            return null;
+        }
+        String rest = destination.substring(CHAT_DESTINATION_PREFIX.length());
+        ChatWireFormat format = JSON;
+        if (rest.endsWith(CBOR.destinationSuffix)) {
+            format = CBOR;
+            rest = rest.substring(0, rest.length() - CBOR.destinationSuffix.length());
+        }
+        try {
+            return new ChatDestination(Long.parseLong(rest), format);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public record ChatDestination(Long chatId, ChatWireFormat format) {
+    }
+}
@@ -1,21 +1,25 @@
 package org.refit.refitbackend.domain.chat.realtime;
 
 import lombok.RequiredArgsConstructor;
+import org.refit.refitbackend.domain.chat.cache.ChatMessageTailCache;
 import org.refit.refitbackend.domain.chat.dto.ChatRes;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+
 @Component
 @RequiredArgsConstructor
 @ConditionalOnProperty(name = "app.chat.realtime.redis.enabled", havingValue = "false", matchIfMissing = true)
 public class LocalChatRealtimePublisher implements ChatRealtimePublisher {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final Optional<ChatMessageTailCache> chatMessageTailCache;
+    private final ChatRealtimeDelivery chatRealtimeDelivery;
 
     @Override
     public void publish(Long chatId, ChatRes.MessageInfo payload) {
-        messagingTemplate.convertAndSend("/queue/chat." + chatId, payload);
+        chatMessageTailCache.ifPresent(cache -> cache.put(chatId, payload));
+        // Redis 경로와 같은 ChatPayloadCodec 으로 직렬화해 redis.enabled 와 관계없이 필드 이름이 같다
+        chatRealtimeDelivery.deliver(chatId, payload);
     }
 }
-
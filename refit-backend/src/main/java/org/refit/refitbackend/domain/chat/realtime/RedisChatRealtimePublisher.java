@@ -3,11 +3,16 @@ package org.refit.refitbackend.domain.chat.realtime;
 import tools.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.refit.refitbackend.domain.chat.cache.ChatMessageTailCache;
 import org.refit.refitbackend.domain.chat.dto.ChatRes;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -16,15 +21,33 @@ public class RedisChatRealtimePublisher implements ChatRealtimePublisher {
 
     private final StringRedisTemplate stringRedisTemplate;
     private final ObjectMapper objectMapper;
+    private final Optional<ChatMessageTailCache> chatMessageTailCache;
+    private final ChatRealtimeChannels chatRealtimeChannels;
+    private final ChatPayloadCodec chatPayloadCodec;
+
+    // 롤링 배포 중 구버전 노드가 남아 있으면 false 로 JSON 봉투를 유지한다.
+    @org.springframework.beans.factory.annotation.Value("${app.chat.realtime.redis.binary-envelope:true}")
+    private boolean binaryEnvelope;
 
-    @org.springframework.beans.factory.annotation.Value("${app.chat.realtime.redis.channel:chat.message.broadcast}")
-    private String channel;
+    // Redis 구간 payload 포맷 (json|cbor). cbor 는 전 노드가 CBOR 봉투를 이해하는 버전으로 올라간 뒤 켠다.
+    @org.springframework.beans.factory.annotation.Value("${app.chat.realtime.redis.payload-format:json}")
+    private String payloadFormat;
 
     @Override
     public void publish(Long chatId, ChatRes.MessageInfo payload) {
+        chatMessageTailCache.ifPresent(cache -> cache.put(chatId, payload));
+        String channel = chatRealtimeChannels.channelOf(chatId);
         try {
-            String body = objectMapper.writeValueAsString(new RedisChatRealtimeEvent(chatId, payload));
-            stringRedisTemplate.convertAndSend(channel, body);
+            if (!binaryEnvelope) {
+                String body = objectMapper.writeValueAsString(new RedisChatRealtimeEvent(chatId, payload));
+                stringRedisTemplate.convertAndSend(channel, body);
+                return;
+            }
+            // 클러스터 전체에서 payload 직렬화는 여기 한 번뿐, 수신 노드는 같은 포맷 구독자에게 바이트를 그대로 전달
+            ChatWireFormat format = ChatWireFormat.fromHeader(payloadFormat);
+            byte[] body = ChatRealtimeEnvelope.encode(chatId, format, chatPayloadCodec.encode(payload, format));
+            byte[] channelBytes = channel.getBytes(StandardCharsets.UTF_8);
+            stringRedisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(channelBytes, body));
         } catch (Exception e) {
             log.error("Redis chat publish failed. chatId={}", chatId, e);
         }
@@ -0,0 +1,76 @@
+package org.refit.refitbackend.domain.chat.realtime;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 로컬 구독자가 있는 채팅방의 샤드 채널만 Redis 에 구독한다.
+ * 같은 샤드의 다른 채팅방 메시지는 RedisChatRealtimeSubscriber 가 봉투 헤더의 chatId 로 걸러낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        name = {"app.chat.realtime.redis.enabled", "app.chat.realtime.redis.sharding.enabled"},
+        havingValue = "true"
+)
+public class RedisChatRealtimeShardManager implements ChatRoomSubscriptionListener {
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final RedisChatRealtimeSubscriber redisChatRealtimeSubscriber;
+    private final ChatRoomSubscriptionTracker chatRoomSubscriptionTracker;
+    private final ChatRealtimeChannels chatRealtimeChannels;
+
+    // Redis 구독 변경이 lock 안에서 일어나므로 가상 스레드에서도 carrier 를 잡지 않도록 ReentrantLock 사용
+    private final ReentrantLock lock = new ReentrantLock();
+    // shard -> 로컬 구독자가 있는 채팅방 수
+    private final Map<Integer, Integer> shardRoomCounts = new HashMap<>();
+
+    @PostConstruct
+    public void register() {
+        chatRoomSubscriptionTracker.addListener(this);
+    }
+
+    @Override
+    public void onFirstSubscriber(Long chatId) {
+        lock.lock();
+        try {
+            int shard = chatRealtimeChannels.shardOf(chatId);
+            if (shardRoomCounts.merge(shard, 1, Integer::sum) == 1) {
+                redisMessageListenerContainer.addMessageListener(
+                        redisChatRealtimeSubscriber,
+                        new ChannelTopic(chatRealtimeChannels.shardChannel(shard))
+                );
+                log.debug("Chat realtime shard subscribed. shard={}", shard);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onLastSubscriberGone(Long chatId) {
+        lock.lock();
+        try {
+            int shard = chatRealtimeChannels.shardOf(chatId);
+            if (shardRoomCounts.computeIfPresent(shard, (key, count) -> count > 1 ? count - 1 : null) == null) {
+                redisMessageListenerContainer.removeMessageListener(
+                        redisChatRealtimeSubscriber,
+                        new ChannelTopic(chatRealtimeChannels.shardChannel(shard))
+                );
+                log.debug("Chat realtime shard unsubscribed. shard={}", shard);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
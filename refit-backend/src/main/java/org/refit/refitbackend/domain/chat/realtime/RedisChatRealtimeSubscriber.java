@@ -7,7 +7,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
@@ -19,29 +18,46 @@ import java.nio.charset.StandardCharsets;
 public class RedisChatRealtimeSubscriber implements MessageListener {
 
     private final ObjectMapper objectMapper;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatRoomSubscriptionTracker chatRoomSubscriptionTracker;
+    private final ChatRealtimeDelivery chatRealtimeDelivery;
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
+        byte[] body = message.getBody();
         try {
-            String body = new String(message.getBody(), StandardCharsets.UTF_8);
-            JsonNode root = objectMapper.readTree(body);
-            JsonNode chatIdNode = root.get("chatId");
-            if (chatIdNode == null || chatIdNode.isNull()) {
-                chatIdNode = root.get("chat_id");
-            }
-            if (chatIdNode == null || !chatIdNode.canConvertToLong()) {
-                throw new IllegalArgumentException("chatId missing in redis chat payload");
+            if (ChatRealtimeEnvelope.isEnvelope(body)) {
+                long chatId = ChatRealtimeEnvelope.chatId(body);
+                // 이 노드에 구독자가 없는 채팅방은 payload 복사/브로커 매칭 없이 버린다.
+                if (chatRoomSubscriptionTracker.hasLocalSubscribers(chatId)) {
+                    chatRealtimeDelivery.deliver(chatId, ChatRealtimeEnvelope.format(body), ChatRealtimeEnvelope.payload(body));
+                }
+                return;
             }
+            relayJson(body);
+        } catch (Exception e) {
+            log.error("Redis chat subscribe handling failed. size={}", body != null ? body.length : 0, e);
+        }
+    }
 
-            JsonNode payloadNode = root.get("payload");
-            if (payloadNode == null || payloadNode.isNull()) {
-                throw new IllegalArgumentException("payload missing in redis chat payload");
-            }
+    // 구버전 노드(또는 binary-envelope=false)가 보낸 JSON 봉투. payload 를 JSON 바이트로 되돌려 포맷별 구독자 모두에게 전달한다
+    private void relayJson(byte[] body) {
+        JsonNode root = objectMapper.readTree(new String(body, StandardCharsets.UTF_8));
+        JsonNode chatIdNode = root.get("chatId");
+        if (chatIdNode == null || chatIdNode.isNull()) {
+            chatIdNode = root.get("chat_id");
+        }
+        if (chatIdNode == null || !chatIdNode.canConvertToLong()) {
+            throw new IllegalArgumentException("chatId missing in redis chat payload");
+        }
 
-            messagingTemplate.convertAndSend("/queue/chat." + chatIdNode.longValue(), payloadNode);
-        } catch (Exception e) {
-            log.error("Redis chat subscribe handling failed. body={}", new String(message.getBody(), StandardCharsets.UTF_8), e);
+        JsonNode payloadNode = root.get("payload");
+        if (payloadNode == null || payloadNode.isNull()) {
+            throw new IllegalArgumentException("payload missing in redis chat payload");
+        }
+
+        long chatId = chatIdNode.longValue();
+        if (chatRoomSubscriptionTracker.hasLocalSubscribers(chatId)) {
+            chatRealtimeDelivery.deliver(chatId, ChatWireFormat.JSON, objectMapper.writeValueAsBytes(payloadNode));
         }
     }
 }
@@ -0,0 +1,123 @@
+package org.refit.refitbackend.domain.chat.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.refit.refitbackend.domain.chat.entity.MessageType;
+import org.refit.refitbackend.domain.chat.repository.projection.ArchivedChatMessageRow;
+import org.refit.refitbackend.domain.user.entity.enums.UserType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 종료 후 보관 기간이 지난 채팅방 메시지 저장소 (chat_messages_archive, created_at 월 단위 range 파티션).
+ * 테이블/파티션은 ChatMessageArchivePartitionManager 가 관리하며, 조회는 archived_at 이 설정된 채팅방에서만 일어난다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageArchiveRepository {
+
+    private static final String SELECT_ROWS = """
+            select
+                a.id,
+                a.chat_room_id,
+                a.room_sequence,
+                a.sender_id,
+                u.nickname,
+                u.profile_image_url,
+                u.user_type,
+                a.message_type,
+                a.content,
+                a.client_message_id,
+                a.created_at
+            from chat_messages_archive a
+            join users u on u.id = a.sender_id
+            """;
+
+    private static final RowMapper<ArchivedChatMessageRow> ROW_MAPPER = (rs, rowNum) -> new ArchivedChatMessageRow(
+            rs.getLong("id"),
+            rs.getLong("chat_room_id"),
+            rs.getLong("room_sequence"),
+            rs.getLong("sender_id"),
+            rs.getString("nickname"),
+            rs.getString("profile_image_url"),
+            rs.getString("user_type") != null ? UserType.valueOf(rs.getString("user_type")) : null,
+            MessageType.valueOf(rs.getString("message_type")),
+            rs.getString("content"),
+            rs.getString("client_message_id"),
+            rs.getTimestamp("created_at").toLocalDateTime()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // (CURSOR) 최신순, hot 테이블의 findMessageSummariesByChatIdAndUserIdByCursor 와 같은 정렬
+    public List<ArchivedChatMessageRow> findByChatIdByCursor(Long chatId, Long cursorId, int limit) {
+        if (cursorId == null) {
+            return jdbcTemplate.query(SELECT_ROWS + " where a.chat_room_id = ? order by a.id desc limit ?",
+                    ROW_MAPPER, chatId, limit);
+        }
+        return jdbcTemplate.query(SELECT_ROWS + " where a.chat_room_id = ? and a.id < ? order by a.id desc limit ?",
+                ROW_MAPPER, chatId, cursorId, limit);
+    }
+
+    public List<ArchivedChatMessageRow> findByChatIdAfterSequence(Long chatId, long afterSeq, int limit) {
+        return jdbcTemplate.query(SELECT_ROWS + " where a.chat_room_id = ? and a.room_sequence > ? order by a.room_sequence asc limit ?",
+                ROW_MAPPER, chatId, afterSeq, limit);
+    }
+
+    /**
+     * 보관 대상 메시지의 created_at 범위 (파티션 사전 생성용). 메시지가 없으면 empty.
+     */
+    public Optional<TimeRange> findHotTimeRange(Long chatId) {
+        return jdbcTemplate.query(
+                "select min(created_at) as min_at, max(created_at) as max_at from chat_messages where chat_room_id = ?",
+                rs -> {
+                    if (!rs.next() || rs.getTimestamp("min_at") == null) {
+                        return Optional.<TimeRange>empty();
+                    }
+                    return Optional.of(new TimeRange(
+                            rs.getTimestamp("min_at").toLocalDateTime(),
+                            rs.getTimestamp("max_at").toLocalDateTime()
+                    ));
+                },
+                chatId
+        );
+    }
+
+    /**
+     * 채팅방 메시지 전체를 보관 테이블로 복사한다. (재실행 시 이미 복사된 행은 건너뜀)
+     */
+    public int copyToArchive(Long chatId) {
+        return jdbcTemplate.update("""
+                insert into chat_messages_archive (
+                    id, chat_room_id, sender_id, message_type, content, room_sequence, client_message_id, created_at, updated_at
+                )
+                select id, chat_room_id, sender_id, message_type, content, room_sequence, client_message_id, created_at, updated_at
+                from chat_messages
+                where chat_room_id = ?
+                on conflict do nothing
+                """, chatId);
+    }
+
+    /**
+     * hot 테이블에서 보관된 메시지를 지운다. chat_rooms.last_message_id 가 참조하는 행은 목록 미리보기/FK 때문에 남긴다.
+     */
+    public int deleteArchivedFromHot(Long chatId) {
+        return jdbcTemplate.update("""
+                delete from chat_messages cm
+                where cm.chat_room_id = ?
+                  and cm.id <> coalesce((select cr.last_message_id from chat_rooms cr where cr.id = ?), -1)
+                """, chatId, chatId);
+    }
+
+    public void markRoomArchived(Long chatId, LocalDateTime archivedAt) {
+        jdbcTemplate.update("update chat_rooms set archived_at = ? where id = ?", Timestamp.valueOf(archivedAt), chatId);
+    }
+
+    public record TimeRange(LocalDateTime from, LocalDateTime to) {
+    }
+}
@@ -0,0 +1,154 @@
+package org.refit.refitbackend.domain.chat.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * chat_messages 대량 저장 전용 저장소.
+ * IDENTITY 전략 때문에 Hibernate saveAll 은 행 단위 INSERT 가 되므로, multi-row INSERT ... RETURNING 으로 묶어 저장한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageBulkRepository {
+
+    // 행당 8개 파라미터, PostgreSQL 바인드 파라미터 상한(32767) 이내로 유지
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    private static final String INSERT_PREFIX = """
+            insert into chat_messages (
+                chat_room_id,
+                sender_id,
+                message_type,
+                content,
+                room_sequence,
+                client_message_id,
+                created_at,
+                updated_at
+            ) values
+            """;
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String RETURNING_SUFFIX = " returning id, chat_room_id, sender_id, room_sequence, created_at";
+
+    // 행당 2개 파라미터. (chat_room_id, room_sequence) 쌍으로만 매칭해 다른 채팅방의 같은 seq 를 끌어오지 않는다
+    private static final int MAX_KEYS_PER_STATEMENT = 1000;
+    private static final String EXISTING_PREFIX = """
+            select chat_room_id, room_sequence, sender_id, client_message_id, content
+            from chat_messages
+            where (chat_room_id, room_sequence) in (values
+            """;
+    private static final String KEY_PLACEHOLDER = "(?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<InsertedRow> insertAll(List<NewRow> rows) {
+        if (rows.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<InsertedRow> inserted = new ArrayList<>(rows.size());
+        for (int from = 0; from < rows.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<NewRow> chunk = rows.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, rows.size()));
+            inserted.addAll(insertChunk(chunk));
+        }
+        return inserted;
+    }
+
+    /**
+     * 이미 저장된 (chat_room_id, room_sequence) 쌍 조회. 채팅방 수와 무관하게 요청한 쌍만 반환한다.
+     * 재전달(같은 메시지)과 seq 충돌(다른 메시지)을 구분할 수 있도록 발신자/내용을 함께 읽는다.
+     */
+    public List<ExistingRow> findExisting(Collection<RoomSequence> keys) {
+        if (keys.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<RoomSequence> source = List.copyOf(keys);
+        List<ExistingRow> existing = new ArrayList<>();
+        for (int from = 0; from < source.size(); from += MAX_KEYS_PER_STATEMENT) {
+            List<RoomSequence> chunk = source.subList(from, Math.min(from + MAX_KEYS_PER_STATEMENT, source.size()));
+            String sql = EXISTING_PREFIX
+                    + String.join(", ", Collections.nCopies(chunk.size(), KEY_PLACEHOLDER))
+                    + ")";
+            existing.addAll(jdbcTemplate.query(sql, ps -> {
+                int index = 1;
+                for (RoomSequence key : chunk) {
+                    ps.setLong(index++, key.chatId());
+                    ps.setLong(index++, key.roomSequence());
+                }
+            }, (rs, rowNum) -> new ExistingRow(
+                    rs.getLong("chat_room_id"),
+                    rs.getLong("room_sequence"),
+                    rs.getLong("sender_id"),
+                    rs.getString("client_message_id"),
+                    rs.getString("content")
+            )));
+        }
+        return existing;
+    }
+
+    private List<InsertedRow> insertChunk(List<NewRow> chunk) {
+        String sql = INSERT_PREFIX
+                + String.join(", ", Collections.nCopies(chunk.size(), ROW_PLACEHOLDER))
+                + RETURNING_SUFFIX;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        return jdbcTemplate.query(sql, ps -> {
+            int index = 1;
+            for (NewRow row : chunk) {
+                ps.setLong(index++, row.chatId());
+                ps.setLong(index++, row.senderId());
+                ps.setString(index++, row.messageType());
+                ps.setString(index++, row.content());
+                ps.setLong(index++, row.roomSequence());
+                ps.setString(index++, row.clientMessageId());
+                ps.setTimestamp(index++, now);
+                ps.setTimestamp(index++, now);
+            }
+        }, (rs, rowNum) -> new InsertedRow(
+                rs.getLong("id"),
+                rs.getLong("chat_room_id"),
+                rs.getLong("sender_id"),
+                rs.getLong("room_sequence"),
+                rs.getTimestamp("created_at").toLocalDateTime()
+        ));
+    }
+
+    public record NewRow(
+            Long chatId,
+            Long senderId,
+            String messageType,
+            String content,
+            Long roomSequence,
+            String clientMessageId
+    ) {
+    }
+
+    public record RoomSequence(Long chatId, Long roomSequence) {
+    }
+
+    public record ExistingRow(
+            Long chatId,
+            Long roomSequence,
+            Long senderId,
+            String clientMessageId,
+            String content
+    ) {
+    }
+
+    public record InsertedRow(
+            Long messageId,
+            Long chatId,
+            Long senderId,
+            Long roomSequence,
+            LocalDateTime createdAt
+    ) {
+    }
+}
@@ -2,7 +2,6 @@ package org.refit.refitbackend.domain.chat.repository;
 
 import org.refit.refitbackend.domain.chat.entity.ChatMessage;
 import org.refit.refitbackend.domain.chat.repository.projection.ChatMessageCursorProjection;
-import org.refit.refitbackend.domain.chat.repository.projection.ReportChatMessageProjection;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -50,6 +49,7 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
             Pageable pageable
     );
 
+    // 재접속 동기화: 마지막 수신 seq 이후 구간 (idx_chat_room_seq)
     @Query("""
           SELECT
             cm.id AS messageId,
@@ -64,26 +64,16 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
             cm.clientMessageId AS clientMessageId,
             cm.createdAt AS createdAt
           FROM ChatMessage cm
-          JOIN cm.chatRoom cr
-          WHERE cr.id = :chatId
-            AND (cr.requester.id = :userId OR cr.receiver.id = :userId)
-            AND (:cursorId IS NULL OR cm.id < :cursorId)
-          ORDER BY cm.id DESC
+          WHERE cm.chatRoom.id = :chatId
+            AND cm.roomSequence > :afterSeq
+          ORDER BY cm.roomSequence ASC
       """)
-    List<ChatMessageCursorProjection> findMessageSummariesByChatIdAndUserIdByCursor(
+    List<ChatMessageCursorProjection> findMessageSummariesByChatIdAfterSequence(
             @Param("chatId") Long chatId,
-            @Param("userId") Long userId,
-            @Param("cursorId") Long cursorId,
+            @Param("afterSeq") Long afterSeq,
             Pageable pageable
     );
 
-    @Query("""
-          SELECT cm FROM ChatMessage cm
-          WHERE cm.chatRoom.id = :chatId
-          ORDER BY cm.roomSequence ASC
-      """)
-    java.util.List<ChatMessage> findAllByChatIdOrderBySequence(@Param("chatId") Long chatId);
-
     @Query("""
           SELECT
             cm.id AS messageId,
@@ -98,13 +88,19 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
             cm.clientMessageId AS clientMessageId,
             cm.createdAt AS createdAt
           FROM ChatMessage cm
-          WHERE cm.chatRoom.id = :chatId
-          ORDER BY cm.roomSequence ASC
+          JOIN cm.chatRoom cr
+          WHERE cr.id = :chatId
+            AND (cr.requester.id = :userId OR cr.receiver.id = :userId)
+            AND (:cursorId IS NULL OR cm.id < :cursorId)
+          ORDER BY cm.id DESC
       """)
-    List<ReportChatMessageProjection> findReportMessagesByChatIdOrderBySequence(@Param("chatId") Long chatId);
+    List<ChatMessageCursorProjection> findMessageSummariesByChatIdAndUserIdByCursor(
+            @Param("chatId") Long chatId,
+            @Param("userId") Long userId,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
 
     List<ChatMessage> findAllByChatRoom_IdAndClientMessageIdIn(Long chatRoomId, Collection<String> clientMessageIds);
 
-    List<ChatMessage> findAllByChatRoom_IdAndRoomSequenceIn(Long chatRoomId, Collection<Long> roomSequences);
-
 }
@@ -0,0 +1,61 @@
+package org.refit.refitbackend.domain.chat.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * chat_rooms 읽음 커서 일괄 갱신 전용 저장소. 단조 증가(더 큰 값일 때만 갱신)를 SQL 조건으로 보장한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatRoomBulkRepository {
+
+    private static final String UPDATE_REQUESTER_SQL = """
+            update chat_rooms
+            set requester_last_read_seq = ?
+            where id = ?
+              and requester_id = ?
+              and (requester_last_read_seq is null or requester_last_read_seq < ?)
+            """;
+
+    private static final String UPDATE_RECEIVER_SQL = """
+            update chat_rooms
+            set receiver_last_read_seq = ?
+            where id = ?
+              and receiver_id = ?
+              and (receiver_last_read_seq is null or receiver_last_read_seq < ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void updateLastReadSeqsIfGreater(List<ReadCursor> cursors) {
+        List<Object[]> requesterArgs = new ArrayList<>();
+        List<Object[]> receiverArgs = new ArrayList<>();
+        for (ReadCursor cursor : cursors) {
+            Object[] args = {cursor.lastReadSeq(), cursor.roomId(), cursor.userId(), cursor.lastReadSeq()};
+            if (cursor.requester()) {
+                requesterArgs.add(args);
+            } else {
+                receiverArgs.add(args);
+            }
+        }
+        if (!requesterArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_REQUESTER_SQL, requesterArgs);
+        }
+        if (!receiverArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_RECEIVER_SQL, receiverArgs);
+        }
+    }
+
+    public record ReadCursor(
+            Long roomId,
+            Long userId,
+            boolean requester,
+            long lastReadSeq
+    ) {
+    }
+}
@@ -2,7 +2,9 @@ package org.refit.refitbackend.domain.chat.repository;
 
 import org.refit.refitbackend.domain.chat.entity.ChatRoom;
 import org.refit.refitbackend.domain.chat.entity.ChatRoomStatus;
-import org.refit.refitbackend.domain.chat.repository.projection.ChatRoomReadStateProjection;
+import org.refit.refitbackend.domain.chat.repository.projection.ChatRoomParticipantsProjection;
+import org.refit.refitbackend.domain.chat.repository.projection.ChatRoomMembershipProjection;
+import org.refit.refitbackend.domain.chat.repository.projection.ChatRoomUnreadStateProjection;
 import org.springframework.data.jpa.repository.Modifying;
 import org.refit.refitbackend.domain.chat.repository.projection.ChatRoomListProjection;
 import org.springframework.data.domain.Page;
@@ -129,12 +131,47 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
             cr.id AS roomId,
             cr.requester.id AS requesterId,
             cr.receiver.id AS receiverId,
-            cr.lastMessageSeq AS lastMessageSeq
+            cr.status AS status,
+            cr.lastMessageSeq AS lastMessageSeq,
+            cr.archivedAt AS archivedAt
+          FROM ChatRoom cr
+          WHERE cr.id = :roomId
+      """)
+    Optional<ChatRoomMembershipProjection> findMembershipById(@Param("roomId") Long roomId);
+
+    boolean existsByIdAndArchivedAtIsNotNull(Long id);
+
+    @Query("""
+          SELECT
+            cr.id AS roomId,
+            cr.requester.id AS requesterId,
+            cr.lastMessageSeq AS lastMessageSeq,
+            cr.requesterLastReadSeq AS requesterLastReadSeq,
+            cr.receiverLastReadSeq AS receiverLastReadSeq
+          FROM ChatRoom cr
+          WHERE (cr.requester.id = :userId OR cr.receiver.id = :userId)
+            AND cr.status = :status
+      """)
+    List<ChatRoomUnreadStateProjection> findUnreadStatesByUserIdAndStatus(
+            @Param("userId") Long userId,
+            @Param("status") ChatRoomStatus status
+    );
+
+    @Query("""
+          SELECT
+            cr.requester.id AS requesterId,
+            cr.requester.nickname AS requesterNickname,
+            cr.requester.profileImageUrl AS requesterProfileImageUrl,
+            cr.requester.userType AS requesterUserType,
+            cr.receiver.id AS receiverId,
+            cr.receiver.nickname AS receiverNickname,
+            cr.receiver.profileImageUrl AS receiverProfileImageUrl,
+            cr.receiver.userType AS receiverUserType
           FROM ChatRoom cr
           WHERE cr.id = :roomId
             AND (cr.requester.id = :userId OR cr.receiver.id = :userId)
       """)
-    Optional<ChatRoomReadStateProjection> findReadStateByIdAndUserId(
+    Optional<ChatRoomParticipantsProjection> findParticipantsByIdAndUserId(
             @Param("roomId") Long roomId,
             @Param("userId") Long userId
     );
@@ -0,0 +1,123 @@
+package org.refit.refitbackend.domain.chat.repository;
+
+import org.refit.refitbackend.domain.chat.entity.MessageType;
+import org.refit.refitbackend.domain.chat.repository.projection.ChatTranscriptRow;
+import org.refit.refitbackend.domain.chat.repository.projection.ReportChatMessageProjection;
+import org.refit.refitbackend.domain.user.entity.enums.UserType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+
+/**
+ * 채팅방 전체 대화 기록을 room_sequence 순으로 흘려 보내는 리더 (리포트 생성용).
+ * room_sequence keyset 청크 단위로 조회하고, 청크 안에서도 fetch-size 커서로 읽어 행을 List 로 모으지 않는다.
+ * fetch-size 커서는 PostgreSQL 드라이버 특성상 트랜잭션(autocommit off) 안에서만 동작하므로 호출 측 트랜잭션 안에서 사용한다.
+ */
+@Repository
+public class ChatTranscriptReader {
+
+    private static final String SELECT_CHUNK = """
+            select
+                m.id,
+                m.chat_room_id,
+                m.room_sequence,
+                m.sender_id,
+                u.nickname,
+                u.profile_image_url,
+                u.user_type,
+                m.message_type,
+                m.content,
+                m.client_message_id,
+                m.created_at
+            from %s m
+            join users u on u.id = m.sender_id
+            where m.chat_room_id = ?
+              and m.room_sequence > ?
+            order by m.room_sequence asc
+            limit ?
+            """;
+    private static final String HOT_CHUNK_SQL = SELECT_CHUNK.formatted("chat_messages");
+    private static final String ARCHIVE_CHUNK_SQL = SELECT_CHUNK.formatted("chat_messages_archive");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+    private final int fetchSize;
+
+    public ChatTranscriptReader(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.report.transcript.chunk-size:1000}") int chunkSize,
+            @Value("${app.report.transcript.fetch-size:200}") int fetchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.fetchSize = Math.max(1, Math.min(fetchSize, this.chunkSize));
+    }
+
+    /**
+     * 채팅방 메시지를 room_sequence 오름차순으로 하나씩 전달한다. 보관된 채팅방은 보관 테이블에서 읽는다.
+     */
+    public void forEachMessage(Long chatId, boolean archived, Consumer<ReportChatMessageProjection> consumer) {
+        String sql = archived ? ARCHIVE_CHUNK_SQL : HOT_CHUNK_SQL;
+        long afterSeq = Long.MIN_VALUE;
+        while (true) {
+            ChunkCursor cursor = new ChunkCursor(afterSeq);
+            long fromSeq = afterSeq;
+            jdbcTemplate.query(
+                    con -> {
+                        PreparedStatement ps = con.prepareStatement(sql);
+                        ps.setFetchSize(fetchSize);
+                        ps.setLong(1, chatId);
+                        ps.setLong(2, fromSeq);
+                        ps.setInt(3, chunkSize);
+                        return ps;
+                    },
+                    (RowCallbackHandler) rs -> {
+                        ChatTranscriptRow row = mapRow(rs);
+                        cursor.advance(row.getRoomSequence());
+                        consumer.accept(row);
+                    }
+            );
+            if (cursor.count < chunkSize) {
+                return;
+            }
+            afterSeq = cursor.lastSeq;
+        }
+    }
+
+    private ChatTranscriptRow mapRow(ResultSet rs) throws SQLException {
+        String userType = rs.getString("user_type");
+        return new ChatTranscriptRow(
+                rs.getLong("id"),
+                rs.getLong("chat_room_id"),
+                rs.getLong("room_sequence"),
+                rs.getLong("sender_id"),
+                rs.getString("nickname"),
+                rs.getString("profile_image_url"),
+                userType != null ? UserType.valueOf(userType) : null,
+                MessageType.valueOf(rs.getString("message_type")),
+                rs.getString("content"),
+                rs.getString("client_message_id"),
+                rs.getTimestamp("created_at").toLocalDateTime()
+        );
+    }
+
+    private static final class ChunkCursor {
+        private long lastSeq;
+        private int count;
+
+        private ChunkCursor(long lastSeq) {
+            this.lastSeq = lastSeq;
+        }
+
+        private void advance(long roomSequence) {
+            lastSeq = roomSequence;
+            count++;
+        }
+    }
+}
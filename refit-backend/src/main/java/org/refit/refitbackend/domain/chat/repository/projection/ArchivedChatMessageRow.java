@@ -0,0 +1,26 @@
+package org.refit.refitbackend.domain.chat.repository.projection;
+
+import lombok.Value;
+import org.refit.refitbackend.domain.chat.entity.MessageType;
+import org.refit.refitbackend.domain.user.entity.enums.UserType;
+
+import java.time.LocalDateTime;
+
+/**
+ * chat_messages_archive 조회 행. hot 테이블 조회와 같은 projection 으로 다뤄 호출 측 변환 코드를 공유한다.
+ */
+@Value
+public class ArchivedChatMessageRow implements ChatMessageCursorProjection {
+
+    Long messageId;
+    Long chatId;
+    Long roomSequence;
+    Long senderId;
+    String senderNickname;
+    String senderProfileImageUrl;
+    UserType senderUserType;
+    MessageType messageType;
+    String content;
+    String clientMessageId;
+    LocalDateTime createdAt;
+}
@@ -0,0 +1,20 @@
+package org.refit.refitbackend.domain.chat.repository.projection;
+
+import org.refit.refitbackend.domain.chat.entity.ChatRoomStatus;
+
+import java.time.LocalDateTime;
+
+public interface ChatRoomMembershipProjection {
+
+    Long getRoomId();
+
+    Long getRequesterId();
+
+    Long getReceiverId();
+
+    ChatRoomStatus getStatus();
+
+    Long getLastMessageSeq();
+
+    LocalDateTime getArchivedAt();
+}
@@ -0,0 +1,22 @@
+package org.refit.refitbackend.domain.chat.repository.projection;
+
+import org.refit.refitbackend.domain.user.entity.enums.UserType;
+
+public interface ChatRoomParticipantsProjection {
+
+    Long getRequesterId();
+
+    String getRequesterNickname();
+
+    String getRequesterProfileImageUrl();
+
+    UserType getRequesterUserType();
+
+    Long getReceiverId();
+
+    String getReceiverNickname();
+
+    String getReceiverProfileImageUrl();
+
+    UserType getReceiverUserType();
+}
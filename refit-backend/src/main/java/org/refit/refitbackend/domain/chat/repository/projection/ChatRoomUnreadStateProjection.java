@@ -1,12 +1,14 @@
 package org.refit.refitbackend.domain.chat.repository.projection;
 
-public interface ChatRoomReadStateProjection {
+public interface ChatRoomUnreadStateProjection {
 
     Long getRoomId();
 
     Long getRequesterId();
 
-    Long getReceiverId();
-
     Long getLastMessageSeq();
+
+    Long getRequesterLastReadSeq();
+
+    Long getReceiverLastReadSeq();
 }
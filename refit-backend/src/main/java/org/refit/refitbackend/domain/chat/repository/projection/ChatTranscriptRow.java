@@ -0,0 +1,26 @@
+package org.refit.refitbackend.domain.chat.repository.projection;
+
+import lombok.Value;
+import org.refit.refitbackend.domain.chat.entity.MessageType;
+import org.refit.refitbackend.domain.user.entity.enums.UserType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리포트용 대화 기록 스트리밍 조회 행 (hot/보관 테이블 공통).
+ */
+@Value
+public class ChatTranscriptRow implements ReportChatMessageProjection {
+
+    Long messageId;
+    Long chatId;
+    Long roomSequence;
+    Long senderId;
+    String senderNickname;
+    String senderProfileImageUrl;
+    UserType senderUserType;
+    MessageType messageType;
+    String content;
+    String clientMessageId;
+    LocalDateTime createdAt;
+}
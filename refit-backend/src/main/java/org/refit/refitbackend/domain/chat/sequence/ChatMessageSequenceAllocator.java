@@ -0,0 +1,13 @@
+package org.refit.refitbackend.domain.chat.sequence;
+
+/**
+ * 채팅방별 room_sequence 발급기.
+ * chat_rooms 행을 갱신하지 않고 시퀀스를 발급하며, floor(chat_rooms.last_message_seq)보다 작은 값은 발급하지 않는다.
+ * floor 는 비동기 저장 중인 메시지를 반영하지 못하므로, 카운터가 없을 때의 시작값은 발급 시 기록한 high-water(ChatMessageSequenceSeeder)로 정한다.
+ */
+public interface ChatMessageSequenceAllocator {
+
+    long next(Long chatId, long floor);
+
+    long current(Long chatId, long floor);
+}
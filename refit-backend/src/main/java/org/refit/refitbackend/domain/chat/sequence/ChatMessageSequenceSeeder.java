@@ -0,0 +1,80 @@
+package org.refit.refitbackend.domain.chat.sequence;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 발급기 카운터의 시작값과 발급 상한(chat_room_sequences.high_water)을 관리한다.
+ * 발급기는 high-water 를 넘는 seq 를 내주기 전에 reserve() 로 블록 단위 상한을 먼저 기록하므로,
+ * 카운터가 없을 때(노드 재시작, 로컬 LRU 제거, Redis 키 유실) high-water 부터 이어서 발급하면 저장 대기 중(Kafka) 메시지와 겹치지 않는다.
+ * 정상 종료/LRU 제거 시에는 release() 로 실제 발급값까지 되돌려 두어, 다음 시작값에 빈 구간이 생기지 않는다.
+ * (비정상 종료 시에만 사용하지 않은 예약분, 최대 reserve-block - 1 만큼 건너뛴다)
+ * 기록은 호출 측(메시지 전송) 트랜잭션과 분리된 별도 트랜잭션에서 바로 커밋한다.
+ */
+@Component
+public class ChatMessageSequenceSeeder {
+
+    private static final String SEED_SQL = """
+            select greatest(
+                coalesce((select max(room_sequence) from chat_messages where chat_room_id = ?), 0),
+                coalesce((select high_water from chat_room_sequences where chat_room_id = ?), 0)
+            )
+            """;
+
+    private static final String RESERVE_SQL = """
+            insert into chat_room_sequences (chat_room_id, high_water)
+            values (?, ?)
+            on conflict (chat_room_id)
+            do update set high_water = greatest(chat_room_sequences.high_water, excluded.high_water)
+            """;
+
+    // 그 사이 다른 카운터가 더 예약했다면(high_water 변경) 되돌리지 않는다
+    private static final String RELEASE_SQL =
+            "update chat_room_sequences set high_water = ? where chat_room_id = ? and high_water = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+    private final long reserveBlock;
+
+    public ChatMessageSequenceSeeder(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.chat.sequence.reserve-block:20}") long reserveBlock
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.reserveBlock = Math.max(1L, reserveBlock);
+    }
+
+    /**
+     * 카운터 시작값. 이 값 이하의 seq 는 이미 발급되었을 수 있으므로 다음 발급은 이 값 + 1 부터다.
+     */
+    public long seed(Long chatId, long floor) {
+        Long highWater = jdbcTemplate.queryForObject(SEED_SQL, Long.class, chatId, chatId);
+        return Math.max(floor, highWater == null ? 0L : highWater);
+    }
+
+    /**
+     * next 를 포함하는 블록의 끝까지 발급 상한을 기록하고 그 값을 반환한다. 반환 전에 커밋된다.
+     */
+    public long reserve(Long chatId, long next) {
+        long upTo = next + reserveBlock - 1;
+        requiresNew.executeWithoutResult(status -> jdbcTemplate.update(RESERVE_SQL, chatId, upTo));
+        return upTo;
+    }
+
+    /**
+     * 더 쓰지 않을 카운터의 예약분을 실제 발급값까지 되돌린다.
+     */
+    public void release(Long chatId, long reserved, long allocated) {
+        if (allocated >= reserved) {
+            return;
+        }
+        requiresNew.executeWithoutResult(status -> jdbcTemplate.update(RELEASE_SQL, allocated, chatId, reserved));
+    }
+}
@@ -0,0 +1,144 @@
+package org.refit.refitbackend.domain.chat.sequence;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 단일 노드용 시퀀스 발급기. 채팅방별 AtomicLong CAS로 발급하므로 발급 자체에는 락이 없고,
+ * 예약한 상한(high-water)을 넘을 때만 ChatMessageSequenceSeeder 로 다음 블록을 기록한다.
+ * 카운터는 채팅방 단위 LRU 로 보관하며, 밀려나거나 종료될 때 실제 발급값을 high-water 로 되돌려 다음 시작값이 이어지게 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.chat.sequence.redis.enabled", havingValue = "false", matchIfMissing = true)
+public class LocalChatMessageSequenceAllocator implements ChatMessageSequenceAllocator {
+
+    private final ChatMessageSequenceSeeder seeder;
+    private final Map<Long, Counter> counters;
+    // LRU 로 밀려난 카운터. map 락 밖에서 release 한다
+    private final Queue<Map.Entry<Long, Counter>> evicted = new ConcurrentLinkedQueue<>();
+
+    public LocalChatMessageSequenceAllocator(
+            ChatMessageSequenceSeeder seeder,
+            @Value("${app.chat.sequence.local.max-rooms:50000}") int maxRooms
+    ) {
+        this.seeder = seeder;
+        this.counters = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Counter> eldest) {
+                if (size() <= maxRooms) {
+                    return false;
+                }
+                evicted.add(Map.entry(eldest.getKey(), eldest.getValue()));
+                return true;
+            }
+        });
+    }
+
+    @Override
+    public long next(Long chatId, long floor) {
+        try {
+            while (true) {
+                Counter counter = counterOf(chatId, floor);
+                long next = counter.value.updateAndGet(current -> Math.max(current, floor) + 1L);
+                // 증가 후 retired 를 확인한다. release 는 retired 를 먼저 세운 뒤 발급값을 읽으므로, 여기서 false 를 봤다면 next 는 release 값에 포함된다
+                if (next > counter.reserved ? reserve(chatId, counter, next) : !counter.retired) {
+                    return next;
+                }
+            }
+        } finally {
+            releaseEvicted();
+        }
+    }
+
+    @Override
+    public long current(Long chatId, long floor) {
+        Counter counter = counters.get(chatId);
+        return counter == null ? floor : Math.max(counter.value.get(), floor);
+    }
+
+    @PreDestroy
+    public void releaseAll() {
+        List<Map.Entry<Long, Counter>> entries;
+        synchronized (counters) {
+            entries = counters.entrySet().stream()
+                    .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+                    .toList();
+            counters.clear();
+        }
+        evicted.addAll(entries);
+        releaseEvicted();
+    }
+
+    private Counter counterOf(Long chatId, long floor) {
+        Counter counter = counters.get(chatId);
+        if (counter != null) {
+            return counter;
+        }
+        // DB 조회는 map 락 밖에서 수행. 동시에 시작값을 정한 경우 먼저 들어간 카운터를 쓴다
+        Counter seeded = new Counter(seeder.seed(chatId, floor));
+        counter = counters.putIfAbsent(chatId, seeded);
+        return counter != null ? counter : seeded;
+    }
+
+    /**
+     * next 까지 상한을 기록한다. 이미 release 된 카운터면 false (호출 측이 새 카운터로 다시 발급).
+     */
+    private boolean reserve(Long chatId, Counter counter, long next) {
+        counter.lock.lock();
+        try {
+            if (counter.retired) {
+                return false;
+            }
+            if (next > counter.reserved) {
+                counter.reserved = seeder.reserve(chatId, next);
+            }
+            return true;
+        } finally {
+            counter.lock.unlock();
+        }
+    }
+
+    private void releaseEvicted() {
+        Map.Entry<Long, Counter> entry;
+        while ((entry = evicted.poll()) != null) {
+            Counter counter = entry.getValue();
+            counter.lock.lock();
+            try {
+                counter.retired = true;
+                seeder.release(entry.getKey(), counter.reserved, counter.value.get());
+            } catch (Exception e) {
+                // high-water 가 예약값에 남을 뿐이므로 다음 시작값에 빈 구간이 생기는 것 외에 영향 없음
+                log.warn("Chat sequence release failed. chatId={}", entry.getKey(), e);
+            } finally {
+                counter.lock.unlock();
+            }
+        }
+    }
+
+    private static final class Counter {
+        private final AtomicLong value;
+        // 가상 스레드 carrier 고정을 피하려고 synchronized 대신 ReentrantLock 사용
+        private final ReentrantLock lock = new ReentrantLock();
+        // 기록된 것으로 확인한 발급 상한. 이 값 이하의 seq 는 DB 기록 없이 발급한다
+        private volatile long reserved;
+        private volatile boolean retired;
+
+        private Counter(long seed) {
+            this.value = new AtomicLong(seed);
+            this.reserved = seed;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package org.refit.refitbackend.domain.chat.sequence;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 멀티 노드용 시퀀스 발급기. floor 보정과 INCR을 Lua 스크립트 한 번으로 처리한다.
+ * 키가 없으면(유실) 발급하지 않고, ChatMessageSequenceSeeder 로 시작값을 정한 뒤 다시 발급한다.
+ * 발급한 seq 가 이 노드가 확인한 상한을 넘으면 반환 전에 seeder 로 high-water 를 기록해 두므로, 키가 유실되어도 시작값이 저장 대기 중 메시지와 겹치지 않는다.
+ * 시퀀스 키에는 TTL 이 없으므로 volatile-* 정책에서는 eviction 대상이 아니다. allkeys-* 정책이면 유실 시 예약분만큼 건너뛴다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.chat.sequence.redis.enabled", havingValue = "true")
+public class RedisChatMessageSequenceAllocator implements ChatMessageSequenceAllocator {
+
+    private static final String KEY_PREFIX = "chat:seq:";
+
+    private static final long MISSING = -1L;
+
+    // 키가 없으면 -1
+    private static final RedisScript<Long> NEXT_SCRIPT = new DefaultRedisScript<>("""
+            local stored = redis.call('GET', KEYS[1])
+            if not stored then
+              return -1
+            end
+            local current = tonumber(stored)
+            local floor = tonumber(ARGV[1])
+            if current < floor then
+              redis.call('SET', KEYS[1], floor)
+            end
+            return redis.call('INCR', KEYS[1])
+            """, Long.class);
+
+    // 동시에 시작값을 정한 노드끼리는 큰 값 기준으로 이어서 발급
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local floor = tonumber(ARGV[1])
+            if current < floor then
+              redis.call('SET', KEYS[1], floor)
+            end
+            return redis.call('INCR', KEYS[1])
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChatMessageSequenceSeeder seeder;
+    // 이 노드가 기록을 확인한 채팅방별 high-water. 없거나 작으면 다시 reserve 할 뿐이므로 LRU 로 제한한다
+    private final Map<Long, Long> reservedByRoom;
+
+    public RedisChatMessageSequenceAllocator(
+            StringRedisTemplate stringRedisTemplate,
+            ChatMessageSequenceSeeder seeder,
+            @Value("${app.chat.sequence.local.max-rooms:50000}") int maxRooms
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.seeder = seeder;
+        this.reservedByRoom = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                return size() > maxRooms;
+            }
+        });
+    }
+
+    @Override
+    public long next(Long chatId, long floor) {
+        List<String> keys = List.of(key(chatId));
+        Long next = stringRedisTemplate.execute(NEXT_SCRIPT, keys, String.valueOf(floor));
+        if (next != null && next == MISSING) {
+            next = stringRedisTemplate.execute(SEED_SCRIPT, keys, String.valueOf(seeder.seed(chatId, floor)));
+        }
+        if (next == null) {
+            throw new IllegalStateException("chat sequence allocation failed. chatId=" + chatId);
+        }
+        reserveThrough(chatId, next);
+        return next;
+    }
+
+    @Override
+    public long current(Long chatId, long floor) {
+        String value = stringRedisTemplate.opsForValue().get(key(chatId));
+        if (value == null) {
+            return floor;
+        }
+        return Math.max(Long.parseLong(value), floor);
+    }
+
+    private void reserveThrough(Long chatId, long next) {
+        Long reserved = reservedByRoom.get(chatId);
+        if (reserved != null && next <= reserved) {
+            return;
+        }
+        long upTo = seeder.reserve(chatId, next);
+        reservedByRoom.merge(chatId, upTo, Math::max);
+    }
+
+    private String key(Long chatId) {
+        return KEY_PREFIX + chatId;
+    }
+}
@@ -5,15 +5,20 @@ import lombok.extern.slf4j.Slf4j;
 import org.refit.refitbackend.domain.chat.dto.ChatReq;
 import org.refit.refitbackend.domain.chat.dto.ChatRes;
 import org.refit.refitbackend.domain.chat.kafka.ChatMessageEventPublisher;
+import org.refit.refitbackend.domain.chat.kafka.event.ChatMessageEvent;
 import org.refit.refitbackend.domain.chat.kafka.event.ChatMessagePersistRequestedEvent;
 import org.refit.refitbackend.domain.chat.kafka.event.ChatMessageSentEvent;
+import org.refit.refitbackend.domain.chat.membership.ChatRoomMembership;
+import org.refit.refitbackend.domain.chat.membership.ChatRoomMembershipCache;
+import org.refit.refitbackend.domain.chat.readstate.ChatReadStateBuffer;
 import org.refit.refitbackend.domain.chat.realtime.ChatRealtimePublisher;
 import org.refit.refitbackend.domain.chat.entity.ChatMessage;
 import org.refit.refitbackend.domain.chat.entity.ChatRoom;
-import org.refit.refitbackend.domain.chat.entity.ChatRoomStatus;
 import org.refit.refitbackend.domain.chat.entity.MessageType;
 import org.refit.refitbackend.domain.chat.repository.ChatMessageRepository;
 import org.refit.refitbackend.domain.chat.repository.ChatRoomRepository;
+import org.refit.refitbackend.domain.chat.sequence.ChatMessageSequenceAllocator;
+import org.refit.refitbackend.domain.chat.unread.ChatUnreadCounterStore;
 import org.refit.refitbackend.domain.notification.service.NotificationService;
 import org.refit.refitbackend.domain.user.entity.User;
 import org.refit.refitbackend.domain.user.repository.UserRepository;
@@ -35,33 +40,35 @@ public class ChatMessageService {
 
     private final ChatMessageRepository chatMessageRepository;
     private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
     private final UserRepository userRepository;
     private final ChatRealtimePublisher chatRealtimePublisher;
+    private final ChatMessageSequenceAllocator sequenceAllocator;
     private final NotificationService notificationService;
     private final SseService sseService;
     private final Optional<ChatMessageEventPublisher> chatMessageEventPublisher;
+    private final Optional<ChatReadStateBuffer> chatReadStateBuffer;
+    private final Optional<ChatUnreadCounterStore> chatUnreadCounterStore;
     @Value("${app.chat.persistence.async.enabled:false}")
     private boolean asyncPersistenceEnabled;
+    // 저장 요청/전송 알림을 하나의 이벤트(chat.message.events)로 발행. 전 노드가 통합 토픽을 소비하는 버전이 된 뒤 켠다.
+    @Value("${app.chat.events.combined.enabled:false}")
+    private boolean combinedEventsEnabled;
 
     /**
      * 메시지 전송
      */
     @Transactional
     public ChatRes.MessageInfo sendMessage(Long senderId, ChatReq.SendMessage request) {
-        // 채팅방 조회 및 권한 체크
-        ChatRoom chatRoom = chatRoomRepository.findByIdAndUserId(request.chatId(), senderId)
-                .orElseThrow(() -> new CustomException(ExceptionType.CHAT_ROOM_NOT_FOUND));
-
-        if (chatRoom.getStatus() == ChatRoomStatus.CLOSED) {
+        // 권한 체크는 참여 캐시로 처리 (ACTIVE 채팅방 전송 경로는 DB 조회 없음)
+        ChatRoomMembership membership = chatRoomMembershipCache.get(request.chatId(), senderId);
+        if (membership.isClosed()) {
             throw new CustomException(ExceptionType.CHAT_ALREADY_CLOSED);
         }
+        Long receiverId = membership.counterpartOf(senderId);
 
-        User senderRef = resolveSender(chatRoom, senderId);
-        Long receiverId = chatRoom.getRequester().getId().equals(senderId)
-                ? chatRoom.getReceiver().getId()
-                : chatRoom.getRequester().getId();
-
-        long roomSequence = chatRoom.nextMessageSequence();
+        // chat_rooms 행을 갱신하지 않고 발급 (last_message_seq는 저장 시점에 반영)
+        long roomSequence = sequenceAllocator.next(request.chatId(), membership.lastMessageSeq());
 
         // 메시지 타입 결정
         MessageType messageType = request.messageType() != null
@@ -73,14 +80,17 @@ public class ChatMessageService {
             clientMessageId = "srv-" + request.chatId() + "-" + roomSequence;
         }
 
+        ChatRoom chatRoom = null;
         ChatRes.MessageInfo payload;
         Long messageIdForEvent = null;
         Long messageIdForSse = 0L;
         String content = request.content();
+        boolean combinedEvents = combinedEventsEnabled && chatMessageEventPublisher.isPresent();
+        boolean persistRequired = asyncPersistenceEnabled && chatMessageEventPublisher.isPresent();
 
-        if (asyncPersistenceEnabled && chatMessageEventPublisher.isPresent()) {
+        if (persistRequired) {
             // Phase2: DB 저장은 Kafka 소비자에서 처리, 요청 트랜잭션에서는 실시간 전달만 수행
-            chatRoom.updateLastReadSeq(senderId, roomSequence);
+            // 발신자 읽음 seq / last_message_seq 는 ChatMessagePersistenceListener 에서 반영
             payload = new ChatRes.MessageInfo(
                     null,
                     request.chatId(),
@@ -93,20 +103,24 @@ public class ChatMessageService {
                     LocalDateTime.now()
             );
 
-            ChatMessagePersistRequestedEvent persistEvent = new ChatMessagePersistRequestedEvent(
-                    request.chatId(),
-                    senderId,
-                    messageType.name(),
-                    content,
-                    roomSequence,
-                    clientMessageId
-            );
-            chatMessageEventPublisher.get().publishPersistRequested(persistEvent);
+            if (!combinedEvents) {
+                ChatMessagePersistRequestedEvent persistEvent = new ChatMessagePersistRequestedEvent(
+                        request.chatId(),
+                        senderId,
+                        messageType.name(),
+                        content,
+                        roomSequence,
+                        clientMessageId
+                );
+                chatMessageEventPublisher.get().publishPersistRequested(persistEvent);
+            }
         } else {
             // fallback: Kafka 미사용/비활성 환경은 기존 동기 저장 유지
+            chatRoom = chatRoomRepository.findById(request.chatId())
+                    .orElseThrow(() -> new CustomException(ExceptionType.CHAT_ROOM_NOT_FOUND));
             ChatMessage message = ChatMessage.builder()
                     .chatRoom(chatRoom)
-                    .sender(senderRef)
+                    .sender(resolveSender(chatRoom, senderId))
                     .messageType(messageType)
                     .content(content)
                     .roomSequence(roomSequence)
@@ -115,7 +129,10 @@ public class ChatMessageService {
 
             ChatMessage savedMessage = chatMessageRepository.save(message);
 
-            chatRoom.updateLastMessage(savedMessage);
+            // 더 큰 seq 가 먼저 반영되었으면 되돌리지 않는다 (ChatMessagePersistenceListener 와 같은 기준)
+            if (roomSequence >= lastMessageSeqOf(chatRoom)) {
+                chatRoom.updateLastMessage(savedMessage);
+            }
             chatRoom.updateLastReadMessage(senderId, savedMessage);
 
             payload = ChatRes.MessageInfo.from(savedMessage);
@@ -127,6 +144,22 @@ public class ChatMessageService {
         chatRealtimePublisher.publish(request.chatId(), payload);
         log.debug("메시지 전송 성공 - roomId: {}, senderId: {}", request.chatId(), senderId);
 
+        if (combinedEvents) {
+            // 저장(필요 시)과 상대방 알림/SSE를 chatId 키의 단일 이벤트로 처리 (SYSTEM 메시지는 소비 측에서 알림 제외)
+            chatMessageEventPublisher.get().publishMessage(new ChatMessageEvent(
+                    request.chatId(),
+                    messageIdForEvent,
+                    roomSequence,
+                    senderId,
+                    receiverId,
+                    messageType.name(),
+                    content,
+                    clientMessageId,
+                    persistRequired
+            ));
+            return payload;
+        }
+
         // 상대방 알림/SSE는 Kafka 이벤트 소비 경로에서 비동기 처리
         if (messageType != MessageType.SYSTEM) {
             if (chatMessageEventPublisher.isPresent()) {
@@ -148,8 +181,17 @@ public class ChatMessageService {
                 User sender = userRepository.findById(senderId).orElse(null);
                 User receiver = userRepository.findById(receiverId).orElse(null);
                 if (sender != null && receiver != null) {
-                    long unreadCount = calculateUnreadCount(chatRoom, receiver.getId());
-                    sseService.sendChatEvent(receiver.getId(), request.chatId(), messageIdForSse, unreadCount);
+                    long unreadCount;
+                    Long totalUnreadCount = null;
+                    if (chatUnreadCounterStore.isPresent()) {
+                        ChatUnreadCounterStore counterStore = chatUnreadCounterStore.get();
+                        counterStore.onRead(senderId, request.chatId(), roomSequence);
+                        unreadCount = counterStore.onMessage(receiver.getId(), request.chatId(), roomSequence);
+                        totalUnreadCount = counterStore.totalUnread(receiver.getId());
+                    } else {
+                        unreadCount = calculateUnreadCount(chatRoom, receiver.getId());
+                    }
+                    sseService.sendChatEvent(receiver.getId(), request.chatId(), messageIdForSse, unreadCount, totalUnreadCount);
                     notificationService.notifyChatMessageReceived(sender, receiver, request.chatId(), content);
                 }
             }
@@ -168,9 +210,16 @@ public class ChatMessageService {
         throw new CustomException(ExceptionType.AUTH_FORBIDDEN);
     }
 
+    private long lastMessageSeqOf(ChatRoom chatRoom) {
+        return chatRoom.getLastMessageSeq() != null ? chatRoom.getLastMessageSeq() : 0L;
+    }
+
     private long calculateUnreadCount(ChatRoom chatRoom, Long userId) {
-        long lastMessageSeq = chatRoom.getLastMessageSeq() != null ? chatRoom.getLastMessageSeq() : 0L;
+        long lastMessageSeq = lastMessageSeqOf(chatRoom);
         long lastReadSeq = resolveLastReadSeq(chatRoom, userId);
+        if (chatReadStateBuffer.isPresent()) {
+            lastReadSeq = chatReadStateBuffer.get().lastReadSeq(chatRoom.getId(), userId, lastReadSeq);
+        }
         return Math.max(0L, lastMessageSeq - lastReadSeq);
     }
 
@@ -7,7 +7,8 @@ import org.refit.refitbackend.domain.chat.entity.ChatRequest;
 import org.refit.refitbackend.domain.chat.entity.ChatRequestType;
 import org.refit.refitbackend.domain.chat.entity.ChatReview;
 import org.refit.refitbackend.domain.chat.entity.ChatRoom;
-import org.refit.refitbackend.domain.chat.entity.ChatRoomStatus;
+import org.refit.refitbackend.domain.chat.membership.ChatRoomMembership;
+import org.refit.refitbackend.domain.chat.membership.ChatRoomMembershipCache;
 import org.refit.refitbackend.domain.chat.repository.ChatRequestRepository;
 import org.refit.refitbackend.domain.chat.repository.ChatReviewRepository;
 import org.refit.refitbackend.domain.chat.repository.ChatRoomRepository;
@@ -28,6 +29,7 @@ import java.util.List;
 public class ChatReviewService {
 
     private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
     private final ChatRequestRepository chatRequestRepository;
     private final ChatReviewRepository chatReviewRepository;
     private final ExpertProfileRepository expertProfileRepository;
@@ -109,20 +111,24 @@ public class ChatReviewService {
     }
 
     private ChatRoom getWritableRoom(Long userId, Long chatId) {
-        ChatRoom room = chatRoomRepository.findByIdAndUserId(chatId, userId)
+        validateWritableRoom(userId, chatId);
+        return chatRoomRepository.findById(chatId)
                 .orElseThrow(() -> new CustomException(ExceptionType.CHAT_ROOM_NOT_FOUND));
+    }
+
+    private void validateWritableRoom(Long userId, Long chatId) {
+        ChatRoomMembership membership = chatRoomMembershipCache.get(chatId, userId);
 
-        if (room.getStatus() != ChatRoomStatus.CLOSED) {
+        if (!membership.isClosed()) {
             throw new CustomException(ExceptionType.CHAT_NOT_CLOSED);
         }
-        if (!room.getRequester().getId().equals(userId)) {
+        if (!membership.isRequester(userId)) {
             throw new CustomException(ExceptionType.FORBIDDEN);
         }
-        return room;
     }
 
     private ChatReview getOwnedReview(Long userId, Long chatId) {
-        getWritableRoom(userId, chatId);
+        validateWritableRoom(userId, chatId);
         return chatReviewRepository.findByChatRoomIdAndReviewerId(chatId, userId)
                 .orElseThrow(() -> new CustomException(ExceptionType.REVIEW_NOT_FOUND));
     }
@@ -1,6 +1,7 @@
 package org.refit.refitbackend.domain.chat.service;
 
 import lombok.RequiredArgsConstructor;
+import org.refit.refitbackend.domain.chat.cache.ChatMessageTailCache;
 import org.refit.refitbackend.domain.chat.dto.ChatReq;
 import org.refit.refitbackend.domain.chat.dto.ChatRes;
 import org.refit.refitbackend.domain.chat.entity.ChatMessage;
@@ -8,12 +9,18 @@ import org.refit.refitbackend.domain.chat.entity.ChatRequest;
 import org.refit.refitbackend.domain.chat.entity.ChatRoom;
 import org.refit.refitbackend.domain.chat.entity.ChatRoomStatus;
 import org.refit.refitbackend.domain.chat.entity.MessageType;
+import org.refit.refitbackend.domain.chat.membership.ChatRoomMembership;
+import org.refit.refitbackend.domain.chat.membership.ChatRoomMembershipCache;
+import org.refit.refitbackend.domain.chat.readstate.ChatReadStateBuffer;
+import org.refit.refitbackend.domain.chat.repository.ChatMessageArchiveRepository;
 import org.refit.refitbackend.domain.chat.repository.ChatMessageRepository;
 import org.refit.refitbackend.domain.chat.repository.ChatRequestRepository;
 import org.refit.refitbackend.domain.chat.repository.ChatRoomRepository;
 import org.refit.refitbackend.domain.chat.repository.projection.ChatMessageCursorProjection;
 import org.refit.refitbackend.domain.chat.repository.projection.ChatRoomListProjection;
-import org.refit.refitbackend.domain.chat.repository.projection.ChatRoomReadStateProjection;
+import org.refit.refitbackend.domain.chat.sequence.ChatMessageSequenceAllocator;
+import org.refit.refitbackend.domain.chat.unread.ChatUnreadCounterStore;
+import org.refit.refitbackend.domain.chat.unread.ChatUnreadStateLoader;
 import org.refit.refitbackend.domain.report.entity.enums.ReportStatus;
 import org.refit.refitbackend.domain.report.repository.ReportRepository;
 import org.refit.refitbackend.domain.resume.entity.Resume;
@@ -26,6 +33,7 @@ import org.refit.refitbackend.global.common.dto.CursorPage;
 import org.refit.refitbackend.global.error.CustomException;
 import org.refit.refitbackend.global.error.ExceptionType;
 import org.refit.refitbackend.global.storage.PresignedUrlResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
@@ -33,8 +41,11 @@ import org.springframework.transaction.annotation.Transactional;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -43,13 +54,23 @@ public class ChatRoomService {
 
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageArchiveRepository chatMessageArchiveRepository;
     private final ChatRequestRepository chatRequestRepository;
     private final UserRepository userRepository;
     private final ResumeRepository resumeRepository;
     private final ReportRepository reportRepository;
+    private final ChatMessageSequenceAllocator sequenceAllocator;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+    private final Optional<ChatMessageTailCache> chatMessageTailCache;
+    private final Optional<ChatReadStateBuffer> chatReadStateBuffer;
+    private final Optional<ChatUnreadCounterStore> chatUnreadCounterStore;
+    private final ChatUnreadStateLoader chatUnreadStateLoader;
     private final StorageService storageService;
     private final ObjectMapper objectMapper;
 
+    @Value("${app.chat.sync.max-messages-per-room:100}")
+    private int syncMaxMessagesPerRoom;
+
     /**
      * 채팅방 생성
      */
@@ -119,7 +140,7 @@ public class ChatRoomService {
         }
 
         List<ChatRes.RoomListItem> items = rows.stream()
-                .map(this::toRoomListItem)
+                .map(row -> toRoomListItem(row, resolveUnreadCount(row, userId)))
                 .toList();
 
         String nextCursor = rows.isEmpty() ? null : String.valueOf(rows.get(rows.size() - 1).getChatId());
@@ -127,7 +148,18 @@ public class ChatRoomService {
         return new CursorPage<>(items, nextCursor, hasMore);
     }
 
-    private ChatRes.RoomListItem toRoomListItem(ChatRoomListProjection row) {
+    // 아직 flush 되지 않은 읽음 커서를 반영
+    private Long resolveUnreadCount(ChatRoomListProjection row, Long userId) {
+        Long unreadCount = row.getUnreadCount();
+        if (chatReadStateBuffer.isEmpty() || unreadCount == null || unreadCount == 0L
+                || row.getLastMessageRoomSequence() == null) {
+            return unreadCount;
+        }
+        long pendingLastReadSeq = chatReadStateBuffer.get().lastReadSeq(row.getChatId(), userId, 0L);
+        return Math.min(unreadCount, Math.max(0L, row.getLastMessageRoomSequence() - pendingLastReadSeq));
+    }
+
+    private ChatRes.RoomListItem toRoomListItem(ChatRoomListProjection row, Long unreadCount) {
         ChatRes.UserInfo requester = new ChatRes.UserInfo(
                 row.getRequesterId(),
                 row.getRequesterNickname(),
@@ -156,7 +188,7 @@ public class ChatRoomService {
                 requester,
                 receiver,
                 lastMessage,
-                row.getUnreadCount(),
+                unreadCount,
                 row.getStatus().name(),
                 requestType,
                 row.getCreatedAt(),
@@ -164,6 +196,19 @@ public class ChatRoomService {
         );
     }
 
+    /**
+     * 전체 안 읽은 메시지 수 조회
+     */
+    public ChatRes.UnreadCount getTotalUnreadCount(Long userId) {
+        if (chatUnreadCounterStore.isPresent()) {
+            return new ChatRes.UnreadCount(chatUnreadCounterStore.get().totalUnread(userId));
+        }
+        long total = chatUnreadStateLoader.load(userId).values().stream()
+                .mapToLong(ChatUnreadStateLoader.RoomUnreadState::unreadCount)
+                .sum();
+        return new ChatRes.UnreadCount(total);
+    }
+
     /**
      * 채팅방 상세 조회
      */
@@ -250,14 +295,21 @@ public class ChatRoomService {
 
         room.close();
 
+        long floor = room.getLastMessageSeq() != null ? room.getLastMessageSeq() : 0L;
         ChatMessage systemMessage = chatMessageRepository.save(ChatMessage.builder()
                 .chatRoom(room)
                 .sender(room.getReceiver())
                 .messageType(MessageType.SYSTEM)
                 .content("채팅이 종료되었습니다.")
-                .roomSequence(room.nextMessageSequence())
+                .roomSequence(sequenceAllocator.next(roomId, floor))
                 .build());
         room.updateLastMessage(systemMessage);
+        chatRoomMembershipCache.invalidateAfterCommit(roomId);
+        chatMessageTailCache.ifPresent(cache -> cache.evict(roomId));
+        chatUnreadCounterStore.ifPresent(store -> {
+            store.removeRoom(room.getRequester().getId(), roomId);
+            store.removeRoom(room.getReceiver().getId(), roomId);
+        });
     }
 
     /**
@@ -265,27 +317,32 @@ public class ChatRoomService {
      */
     @Transactional
     public void markAsRead(Long userId, Long roomId, ChatReq.ReadMessage request) {
-        ChatRoomReadStateProjection room = chatRoomRepository.findReadStateByIdAndUserId(roomId, userId)
-                .orElseThrow(() -> new CustomException(ExceptionType.CHAT_ROOM_NOT_FOUND));
+        ChatRoomMembership membership = chatRoomMembershipCache.get(roomId, userId);
 
         Long lastReadSeq = request.lastReadSeq();
-        Long lastMessageSeq = room.getLastMessageSeq();
-        if (lastMessageSeq == null) {
+        // 비동기 저장 경로에서는 last_message_seq 반영이 늦을 수 있으므로 발급기 값과 비교
+        long lastMessageSeq = sequenceAllocator.current(roomId, membership.lastMessageSeq());
+        if (lastMessageSeq == 0L) {
             return;
         }
         if (lastReadSeq > lastMessageSeq) {
             throw new CustomException(ExceptionType.INVALID_REQUEST);
         }
 
-        if (room.getRequesterId().equals(userId)) {
-            chatRoomRepository.updateRequesterLastReadSeqIfGreater(roomId, userId, lastReadSeq);
+        boolean requester = membership.isRequester(userId);
+
+        chatUnreadCounterStore.ifPresent(store -> store.onRead(userId, roomId, lastReadSeq));
+
+        // write-behind 활성화 시 메모리에 최대값만 기록하고 주기적으로 일괄 반영
+        if (chatReadStateBuffer.isPresent()) {
+            chatReadStateBuffer.get().record(roomId, userId, requester, lastReadSeq);
             return;
         }
-        if (room.getReceiverId().equals(userId)) {
-            chatRoomRepository.updateReceiverLastReadSeqIfGreater(roomId, userId, lastReadSeq);
+        if (requester) {
+            chatRoomRepository.updateRequesterLastReadSeqIfGreater(roomId, userId, lastReadSeq);
             return;
         }
-        throw new CustomException(ExceptionType.AUTH_FORBIDDEN);
+        chatRoomRepository.updateReceiverLastReadSeqIfGreater(roomId, userId, lastReadSeq);
     }
 
     /**
@@ -297,6 +354,24 @@ public class ChatRoomService {
             Long cursorId,
         int size
     ) {
+        // 보관된 채팅방은 hot 테이블에 마지막 메시지만 남아 있으므로 보관 테이블에서 조회
+        ChatRoomMembership membership = chatRoomMembershipCache.get(roomId, userId);
+        if (membership.archived()) {
+            List<ChatRes.MessageInfo> archived = chatMessageArchiveRepository.findByChatIdByCursor(roomId, cursorId, size + 1)
+                    .stream()
+                    .map(this::toMessageInfo)
+                    .toList();
+            return toMessagePage(archived, size);
+        }
+
+        // 커서 없는 첫 페이지는 tail 캐시 우선 (miss 시 DB 조회 후 캐시 적재)
+        if (cursorId == null && chatMessageTailCache.isPresent()) {
+            Optional<List<ChatRes.MessageInfo>> cached = chatMessageTailCache.get().findLatest(roomId, userId, size + 1);
+            if (cached.isPresent()) {
+                return toMessagePage(cached.get(), size);
+            }
+        }
+
         List<ChatMessageCursorProjection> messages = chatMessageRepository.findMessageSummariesByChatIdAndUserIdByCursor(
                 roomId,
                 userId,
@@ -304,24 +379,143 @@ public class ChatRoomService {
                 PageRequest.of(0, size + 1)
         );
 
-        if (messages.isEmpty() && !chatRoomRepository.existsByIdAndUserId(roomId, userId)) {
-            throw new CustomException(ExceptionType.CHAT_ROOM_NOT_FOUND);
+        List<ChatRes.MessageInfo> items = messages.stream()
+                .map(this::toMessageInfo)
+                .toList();
+
+        if (cursorId == null) {
+            warmTailCache(roomId, userId, membership.lastMessageSeq(), items);
+        }
+
+        return toMessagePage(items, size);
+    }
+
+    /**
+     * 재접속 동기화. 채팅방별 마지막 수신 seq 이후 누락 구간만 오름차순으로 반환한다.
+     * 최신 상태인 채팅방은 메시지 조회 없이 up_to_date 로 응답한다.
+     */
+    public ChatRes.SyncResponse syncMessages(Long userId, ChatReq.SyncMessages request) {
+        // STOMP 경로는 Bean Validation 을 거치지 않으므로 여기서도 확인
+        if (request == null || request.rooms() == null || request.rooms().isEmpty() || request.rooms().size() > 100) {
+            throw new CustomException(ExceptionType.INVALID_REQUEST);
         }
+        List<ChatRes.SyncRoom> rooms = new ArrayList<>(request.rooms().size());
+        for (ChatReq.SyncCursor cursor : request.rooms()) {
+            if (cursor == null || cursor.chatId() == null || cursor.lastSeenSeq() == null || cursor.lastSeenSeq() < 0) {
+                throw new CustomException(ExceptionType.INVALID_REQUEST);
+            }
+            ChatRoomMembership membership = chatRoomMembershipCache.get(cursor.chatId(), userId);
+            long latestSeq = sequenceAllocator.current(cursor.chatId(), membership.lastMessageSeq());
+            long lastSeenSeq = cursor.lastSeenSeq();
+            if (lastSeenSeq >= latestSeq) {
+                rooms.add(ChatRes.SyncRoom.upToDate(cursor.chatId(), latestSeq));
+                continue;
+            }
+            if (membership.archived()) {
+                rooms.add(syncArchivedRoom(cursor.chatId(), lastSeenSeq, latestSeq));
+                continue;
+            }
+            rooms.add(syncRoom(cursor.chatId(), userId, lastSeenSeq, latestSeq));
+        }
+        return new ChatRes.SyncResponse(rooms);
+    }
 
-        boolean hasMore = messages.size() > size;
+    private ChatRes.SyncRoom syncArchivedRoom(Long roomId, long lastSeenSeq, long latestSeq) {
+        List<ChatRes.MessageInfo> items = chatMessageArchiveRepository.findByChatIdAfterSequence(
+                        roomId,
+                        lastSeenSeq,
+                        syncMaxMessagesPerRoom + 1
+                ).stream()
+                .map(this::toMessageInfo)
+                .toList();
+        boolean hasMore = items.size() > syncMaxMessagesPerRoom;
         if (hasMore) {
-            messages = messages.subList(0, size);
+            items = items.subList(0, syncMaxMessagesPerRoom);
         }
+        return new ChatRes.SyncRoom(roomId, latestSeq, false, items, hasMore);
+    }
 
-        List<ChatRes.MessageInfo> items = messages.stream()
+    private ChatRes.SyncRoom syncRoom(Long roomId, Long userId, long lastSeenSeq, long latestSeq) {
+        long gap = latestSeq - lastSeenSeq;
+        if (gap <= syncMaxMessagesPerRoom && chatMessageTailCache.isPresent()) {
+            Optional<List<ChatRes.MessageInfo>> cached = chatMessageTailCache.get().findLatest(roomId, userId, (int) gap);
+            if (cached.isPresent() && !cached.get().isEmpty()) {
+                List<ChatRes.MessageInfo> newestFirst = cached.get();
+                Long oldestSeq = newestFirst.get(newestFirst.size() - 1).roomSequence();
+                // 누락 구간의 시작(lastSeenSeq + 1)까지 연속으로 있을 때만 캐시 응답
+                if (oldestSeq != null && oldestSeq == lastSeenSeq + 1) {
+                    List<ChatRes.MessageInfo> ascending = new ArrayList<>(newestFirst);
+                    Collections.reverse(ascending);
+                    return new ChatRes.SyncRoom(roomId, latestSeq, false, ascending, false);
+                }
+            }
+        }
+
+        List<ChatRes.MessageInfo> items = chatMessageRepository.findMessageSummariesByChatIdAfterSequence(
+                        roomId,
+                        lastSeenSeq,
+                        PageRequest.of(0, syncMaxMessagesPerRoom + 1)
+                ).stream()
                 .map(this::toMessageInfo)
                 .toList();
+        boolean hasMore = items.size() > syncMaxMessagesPerRoom;
+        if (hasMore) {
+            items = items.subList(0, syncMaxMessagesPerRoom);
+        }
+        return new ChatRes.SyncRoom(roomId, latestSeq, false, items, hasMore);
+    }
+
+    private CursorPage<ChatRes.MessageInfo> toMessagePage(List<ChatRes.MessageInfo> items, int size) {
+        boolean hasMore = items.size() > size;
+        if (hasMore) {
+            items = items.subList(0, size);
+        }
 
-        String nextCursor = messages.isEmpty() ? null : String.valueOf(messages.get(messages.size() - 1).getMessageId());
+        String nextCursor = items.isEmpty() ? null : String.valueOf(items.get(items.size() - 1).messageId());
 
         return new CursorPage<>(items, nextCursor, hasMore);
     }
 
+    /**
+     * DB 조회 결과로 tail 캐시를 채운다. 아직 커밋되지 않은 메시지는 조회에서 빠지고 그 put 도 (캐시 미적재로) 버려지므로,
+     * 발급된 최신 seq 보다 뒤처진 결과는 적재하지 않고, 적재 중 새 seq 가 발급됐으면 다시 제거한다 (다음 조회는 DB).
+     */
+    private void warmTailCache(Long roomId, Long userId, long lastMessageSeq, List<ChatRes.MessageInfo> items) {
+        if (chatMessageTailCache.isEmpty()) {
+            return;
+        }
+        long newestSeq = 0L;
+        for (ChatRes.MessageInfo item : items) {
+            if (item.roomSequence() != null) {
+                newestSeq = Math.max(newestSeq, item.roomSequence());
+            }
+        }
+        if (sequenceAllocator.current(roomId, lastMessageSeq) > newestSeq) {
+            return;
+        }
+        ChatMessageTailCache cache = chatMessageTailCache.get();
+        chatRoomRepository.findParticipantsByIdAndUserId(roomId, userId)
+                .ifPresent(room -> cache.warm(
+                        roomId,
+                        new ChatRes.UserInfo(
+                                room.getRequesterId(),
+                                room.getRequesterNickname(),
+                                room.getRequesterProfileImageUrl(),
+                                room.getRequesterUserType().name()
+                        ),
+                        new ChatRes.UserInfo(
+                                room.getReceiverId(),
+                                room.getReceiverNickname(),
+                                room.getReceiverProfileImageUrl(),
+                                room.getReceiverUserType().name()
+                        ),
+                        items
+                ));
+        if (sequenceAllocator.current(roomId, lastMessageSeq) > newestSeq) {
+            cache.evict(roomId);
+        }
+    }
+
     private ChatRes.MessageInfo toMessageInfo(ChatMessageCursorProjection row) {
         ChatRes.UserInfo sender = new ChatRes.UserInfo(
                 row.getSenderId(),
@@ -0,0 +1,28 @@
+package org.refit.refitbackend.domain.chat.unread;
+
+/**
+ * 사용자별 안 읽은 메시지 수 카운터.
+ * 채팅방별로 (마지막 메시지 seq, 마지막 읽은 seq) 를 최대값으로만 갱신하고 합계를 함께 유지하므로
+ * 같은 이벤트가 재전달되어도 값이 어긋나지 않는다.
+ * 사용자 상태가 없으면 DB 에서 한 번 적재한 뒤 이후에는 이벤트만으로 갱신한다.
+ */
+public interface ChatUnreadCounterStore {
+
+    /**
+     * 수신자에게 새 메시지 반영. 반영 후 해당 채팅방의 안 읽은 메시지 수를 반환한다.
+     */
+    long onMessage(Long userId, Long chatId, long roomSequence);
+
+    /**
+     * 읽음 커서 반영. 본인이 보낸 메시지도 읽음으로 반영한다.
+     */
+    void onRead(Long userId, Long chatId, long lastReadSeq);
+
+    /**
+     * 종료된 채팅방을 합계에서 제외하고 종료 표시(tombstone)를 남긴다.
+     * 종료 뒤 늦게 도착한 메시지/읽음 이벤트는 종료 표시된 채팅방을 다시 합계에 넣지 않는다.
+     */
+    void removeRoom(Long userId, Long chatId);
+
+    long totalUnread(Long userId);
+}
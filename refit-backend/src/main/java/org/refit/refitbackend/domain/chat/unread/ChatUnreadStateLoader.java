@@ -0,0 +1,52 @@
+package org.refit.refitbackend.domain.chat.unread;
+
+import lombok.RequiredArgsConstructor;
+import org.refit.refitbackend.domain.chat.entity.ChatRoomStatus;
+import org.refit.refitbackend.domain.chat.readstate.ChatReadStateBuffer;
+import org.refit.refitbackend.domain.chat.repository.ChatRoomRepository;
+import org.refit.refitbackend.domain.chat.repository.projection.ChatRoomUnreadStateProjection;
+import org.refit.refitbackend.domain.chat.sequence.ChatMessageSequenceAllocator;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 카운터 초기 적재용. 사용자의 진행 중인 채팅방 전체를 한 번에 조회한다.
+ * 비동기 저장/읽음 write-behind 로 DB 값이 늦을 수 있어 발급기와 버퍼 값을 함께 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatUnreadStateLoader {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatMessageSequenceAllocator sequenceAllocator;
+    private final Optional<ChatReadStateBuffer> chatReadStateBuffer;
+
+    public Map<Long, RoomUnreadState> load(Long userId) {
+        Map<Long, RoomUnreadState> states = new LinkedHashMap<>();
+        for (ChatRoomUnreadStateProjection row : chatRoomRepository.findUnreadStatesByUserIdAndStatus(userId, ChatRoomStatus.ACTIVE)) {
+            long lastMessageSeq = sequenceAllocator.current(row.getRoomId(), valueOf(row.getLastMessageSeq()));
+            long lastReadSeq = valueOf(userId.equals(row.getRequesterId())
+                    ? row.getRequesterLastReadSeq()
+                    : row.getReceiverLastReadSeq());
+            if (chatReadStateBuffer.isPresent()) {
+                lastReadSeq = chatReadStateBuffer.get().lastReadSeq(row.getRoomId(), userId, lastReadSeq);
+            }
+            states.put(row.getRoomId(), new RoomUnreadState(lastMessageSeq, lastReadSeq));
+        }
+        return states;
+    }
+
+    private long valueOf(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    public record RoomUnreadState(long lastMessageSeq, long lastReadSeq) {
+
+        public long unreadCount() {
+            return Math.max(0L, lastMessageSeq - lastReadSeq);
+        }
+    }
+}
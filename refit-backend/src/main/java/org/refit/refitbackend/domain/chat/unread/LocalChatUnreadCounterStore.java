@@ -0,0 +1,119 @@
+package org.refit.refitbackend.domain.chat.unread;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 단일 노드용 카운터. 사용자 단위 LRU 로 메모리를 제한하고, 제거된 사용자는 다음 접근 시 다시 적재한다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.chat.unread-counter.mode", havingValue = "local")
+public class LocalChatUnreadCounterStore implements ChatUnreadCounterStore {
+
+    private final ChatUnreadStateLoader chatUnreadStateLoader;
+    private final long ttlMs;
+    private final Map<Long, UserUnread> users;
+
+    public LocalChatUnreadCounterStore(
+            ChatUnreadStateLoader chatUnreadStateLoader,
+            @Value("${app.chat.unread-counter.max-users:50000}") int maxUsers,
+            @Value("${app.chat.unread-counter.ttl-seconds:86400}") long ttlSeconds
+    ) {
+        this.chatUnreadStateLoader = chatUnreadStateLoader;
+        this.ttlMs = ttlSeconds * 1000L;
+        this.users = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserUnread> eldest) {
+                return size() > maxUsers;
+            }
+        });
+    }
+
+    @Override
+    public long onMessage(Long userId, Long chatId, long roomSequence) {
+        return load(userId).apply(chatId, roomSequence, 0L);
+    }
+
+    @Override
+    public void onRead(Long userId, Long chatId, long lastReadSeq) {
+        load(userId).apply(chatId, 0L, lastReadSeq);
+    }
+
+    @Override
+    public void removeRoom(Long userId, Long chatId) {
+        UserUnread unread = users.get(userId);
+        if (unread != null) {
+            unread.remove(chatId);
+        }
+    }
+
+    @Override
+    public long totalUnread(Long userId) {
+        return load(userId).total();
+    }
+
+    private UserUnread load(Long userId) {
+        UserUnread unread = users.get(userId);
+        if (unread != null && unread.expiresAtMs >= System.currentTimeMillis()) {
+            return unread;
+        }
+
+        UserUnread seeded = new UserUnread(System.currentTimeMillis() + ttlMs);
+        chatUnreadStateLoader.load(userId).forEach((roomId, state) ->
+                seeded.apply(roomId, state.lastMessageSeq(), state.lastReadSeq()));
+        // 적재 중 다른 스레드가 먼저 등록했다면 그 상태를 사용한다.
+        UserUnread current = users.get(userId);
+        if (current != null && current.expiresAtMs >= System.currentTimeMillis()) {
+            return current;
+        }
+        users.put(userId, seeded);
+        return seeded;
+    }
+
+    private static final class UserUnread {
+
+        // roomId -> [lastMessageSeq, lastReadSeq]
+        private final Map<Long, long[]> rooms = new HashMap<>();
+        // 종료된 채팅방 (늦게 도착한 이벤트 무시)
+        private final Set<Long> closedRooms = new HashSet<>();
+        private final long expiresAtMs;
+        private long total;
+
+        private UserUnread(long expiresAtMs) {
+            this.expiresAtMs = expiresAtMs;
+        }
+
+        private synchronized long apply(Long roomId, long messageSeq, long readSeq) {
+            if (closedRooms.contains(roomId)) {
+                return 0L;
+            }
+            long[] cursor = rooms.computeIfAbsent(roomId, id -> new long[2]);
+            long before = Math.max(0L, cursor[0] - cursor[1]);
+            cursor[1] = Math.max(cursor[1], readSeq);
+            cursor[0] = Math.max(Math.max(cursor[0], messageSeq), cursor[1]);
+            long after = cursor[0] - cursor[1];
+            total += after - before;
+            return after;
+        }
+
+        private synchronized void remove(Long roomId) {
+            closedRooms.add(roomId);
+            long[] cursor = rooms.remove(roomId);
+            if (cursor != null) {
+                total -= Math.max(0L, cursor[0] - cursor[1]);
+            }
+        }
+
+        private synchronized long total() {
+            return Math.max(0L, total);
+        }
+    }
+}
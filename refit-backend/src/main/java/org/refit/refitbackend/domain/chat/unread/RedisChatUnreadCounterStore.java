@@ -0,0 +1,155 @@
+package org.refit.refitbackend.domain.chat.unread;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 멀티 노드 공유 카운터. 사용자별 HASH(m:{roomId}, r:{roomId}, c:{roomId}=종료 표시, total) 를 Lua 로 원자적으로 갱신한다.
+ * 키가 없으면 스크립트가 -1 을 반환하고, DB 적재 후 한 번 재시도한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.chat.unread-counter.mode", havingValue = "redis")
+public class RedisChatUnreadCounterStore implements ChatUnreadCounterStore {
+
+    private static final String KEY_PREFIX = "chat:unread:";
+    private static final String TOTAL_FIELD = "total";
+
+    // KEYS[1]=user hash / ARGV: roomId, messageSeq, readSeq, ttlMs
+    private static final RedisScript<Long> APPLY_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return -1
+            end
+            if redis.call('HEXISTS', KEYS[1], 'c:' .. ARGV[1]) == 1 then
+              return 0
+            end
+            local mf = 'm:' .. ARGV[1]
+            local rf = 'r:' .. ARGV[1]
+            local m = tonumber(redis.call('HGET', KEYS[1], mf) or '0')
+            local r = tonumber(redis.call('HGET', KEYS[1], rf) or '0')
+            local before = math.max(0, m - r)
+            local nr = math.max(r, tonumber(ARGV[3]))
+            local nm = math.max(m, tonumber(ARGV[2]), nr)
+            local after = nm - nr
+            redis.call('HSET', KEYS[1], mf, nm, rf, nr)
+            redis.call('HINCRBY', KEYS[1], 'total', after - before)
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            return after
+            """, Long.class);
+
+    // KEYS[1]=user hash / ARGV: roomId
+    // 키가 없으면 아무것도 쓰지 않는다 (다음 적재는 진행 중인 채팅방만 읽으므로 종료된 채팅방은 빠진다)
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return 0
+            end
+            redis.call('HSET', KEYS[1], 'c:' .. ARGV[1], 1)
+            local mf = 'm:' .. ARGV[1]
+            local rf = 'r:' .. ARGV[1]
+            local m = redis.call('HGET', KEYS[1], mf)
+            if not m then
+              return 0
+            end
+            local r = tonumber(redis.call('HGET', KEYS[1], rf) or '0')
+            redis.call('HDEL', KEYS[1], mf, rf)
+            redis.call('HINCRBY', KEYS[1], 'total', -math.max(0, tonumber(m) - r))
+            return 1
+            """, Long.class);
+
+    // KEYS[1]=user hash / ARGV: ttlMs, total, field1, value1, ...
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+              return 0
+            end
+            redis.call('HSET', KEYS[1], 'total', ARGV[2])
+            for i = 3, #ARGV, 2 do
+              redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChatUnreadStateLoader chatUnreadStateLoader;
+    private final long ttlMs;
+
+    public RedisChatUnreadCounterStore(
+            StringRedisTemplate stringRedisTemplate,
+            ChatUnreadStateLoader chatUnreadStateLoader,
+            @Value("${app.chat.unread-counter.ttl-seconds:86400}") long ttlSeconds
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.chatUnreadStateLoader = chatUnreadStateLoader;
+        this.ttlMs = ttlSeconds * 1000L;
+    }
+
+    @Override
+    public long onMessage(Long userId, Long chatId, long roomSequence) {
+        return apply(userId, chatId, roomSequence, 0L);
+    }
+
+    @Override
+    public void onRead(Long userId, Long chatId, long lastReadSeq) {
+        apply(userId, chatId, 0L, lastReadSeq);
+    }
+
+    @Override
+    public void removeRoom(Long userId, Long chatId) {
+        stringRedisTemplate.execute(REMOVE_SCRIPT, List.of(key(userId)), String.valueOf(chatId));
+    }
+
+    @Override
+    public long totalUnread(Long userId) {
+        Object total = stringRedisTemplate.opsForHash().get(key(userId), TOTAL_FIELD);
+        if (total == null) {
+            seed(userId);
+            total = stringRedisTemplate.opsForHash().get(key(userId), TOTAL_FIELD);
+        }
+        return total != null ? Math.max(0L, Long.parseLong((String) total)) : 0L;
+    }
+
+    private long apply(Long userId, Long chatId, long messageSeq, long readSeq) {
+        String[] args = {
+                String.valueOf(chatId),
+                String.valueOf(messageSeq),
+                String.valueOf(readSeq),
+                String.valueOf(ttlMs)
+        };
+        Long result = stringRedisTemplate.execute(APPLY_SCRIPT, List.of(key(userId)), (Object[]) args);
+        if (result != null && result >= 0L) {
+            return result;
+        }
+        seed(userId);
+        result = stringRedisTemplate.execute(APPLY_SCRIPT, List.of(key(userId)), (Object[]) args);
+        return result != null ? Math.max(0L, result) : 0L;
+    }
+
+    private void seed(Long userId) {
+        Map<Long, ChatUnreadStateLoader.RoomUnreadState> states = chatUnreadStateLoader.load(userId);
+        List<String> args = new ArrayList<>(2 + states.size() * 4);
+        args.add(String.valueOf(ttlMs));
+        args.add(String.valueOf(states.values().stream().mapToLong(ChatUnreadStateLoader.RoomUnreadState::unreadCount).sum()));
+        states.forEach((roomId, state) -> {
+            long lastReadSeq = state.lastReadSeq();
+            args.add("m:" + roomId);
+            args.add(String.valueOf(Math.max(state.lastMessageSeq(), lastReadSeq)));
+            args.add("r:" + roomId);
+            args.add(String.valueOf(lastReadSeq));
+        });
+        stringRedisTemplate.execute(SEED_SCRIPT, List.of(key(userId)), args.toArray());
+        log.debug("Chat unread counter seeded. userId={}, rooms={}", userId, states.size());
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -19,6 +19,8 @@ import org.refit.refitbackend.global.common.dto.CursorPage;
 import org.refit.refitbackend.global.config.RedisCacheConfig;
 import org.refit.refitbackend.global.error.CustomException;
 import org.refit.refitbackend.global.error.ExceptionType;
+import org.refit.refitbackend.global.ratelimit.AiConcurrencyLimiter;
+import org.refit.refitbackend.global.ratelimit.AiUpstream;
 import org.refit.refitbackend.global.response.ApiResponse;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
@@ -50,6 +52,7 @@ public class ExpertService {
     private final UserSkillRepository userSkillRepository;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final AiConcurrencyLimiter aiConcurrencyLimiter;
 
     @Value("${ai.base-url:https://re-fit.kr/api/ai}")
     private String aiBaseUrl;
@@ -120,11 +123,14 @@ public class ExpertService {
                 .toUriString();
 
         try {
-            ResponseEntity<ApiResponse<ExpertRes.RecommendationResponse>> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    HttpEntity.EMPTY,
-                    new ParameterizedTypeReference<>() {}
+            ResponseEntity<ApiResponse<ExpertRes.RecommendationResponse>> response = aiConcurrencyLimiter.call(
+                    AiUpstream.EXPERT_RECOMMENDATION,
+                    () -> restTemplate.exchange(
+                            url,
+                            HttpMethod.GET,
+                            HttpEntity.EMPTY,
+                            new ParameterizedTypeReference<ApiResponse<ExpertRes.RecommendationResponse>>() {}
+                    )
             );
 
             ApiResponse<ExpertRes.RecommendationResponse> body = response.getBody();
@@ -5,11 +5,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.refit.refitbackend.domain.chat.entity.ChatFeedback;
 import org.refit.refitbackend.domain.chat.entity.ChatFeedbackAnswer;
 import org.refit.refitbackend.domain.chat.entity.ChatRoom;
+import org.refit.refitbackend.domain.chat.membership.ChatRoomMembershipCache;
 import org.refit.refitbackend.domain.chat.repository.projection.ReportChatMessageProjection;
 import org.refit.refitbackend.domain.chat.repository.ChatFeedbackAnswerRepository;
 import org.refit.refitbackend.domain.chat.repository.ChatFeedbackRepository;
-import org.refit.refitbackend.domain.chat.repository.ChatMessageRepository;
 import org.refit.refitbackend.domain.chat.repository.ChatRoomRepository;
+import org.refit.refitbackend.domain.chat.repository.ChatTranscriptReader;
 import org.refit.refitbackend.domain.jobposting.entity.JobPost;
 import org.refit.refitbackend.domain.jobposting.entity.JobPostCrawlLog;
 import org.refit.refitbackend.domain.jobposting.entity.enums.CrawlStatus;
@@ -32,20 +33,29 @@ import org.refit.refitbackend.domain.user.entity.UserSkill;
 import org.refit.refitbackend.domain.user.repository.UserSkillRepository;
 import org.refit.refitbackend.global.error.CustomException;
 import org.refit.refitbackend.global.error.ExceptionType;
+import org.refit.refitbackend.global.ratelimit.AiConcurrencyLimiter;
+import org.refit.refitbackend.global.ratelimit.AiUpstream;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.ClientHttpRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.core.JsonGenerator;
 import tools.jackson.databind.ObjectMapper;
 import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -64,9 +74,10 @@ public class ReportService {
     private final RestTemplate restTemplate;
     private final ReportRepository reportRepository;
     private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
     private final ChatFeedbackRepository chatFeedbackRepository;
     private final ChatFeedbackAnswerRepository chatFeedbackAnswerRepository;
-    private final ChatMessageRepository chatMessageRepository;
+    private final ChatTranscriptReader chatTranscriptReader;
     private final JobPostRepository jobPostRepository;
     private final JobPostCrawlLogRepository jobPostCrawlLogRepository;
     private final UserSkillRepository userSkillRepository;
@@ -74,21 +85,24 @@ public class ReportService {
     private final ObjectProvider<TaskEventPublisher> taskEventPublisherProvider;
     private final TaskRepository taskRepository;
     private final ObjectMapper objectMapper;
+    private final AiConcurrencyLimiter aiConcurrencyLimiter;
 
     @Value("${ai.base-url:https://dev.re-fit.kr/api/ai}")
     private String aiBaseUrl;
 
     @Transactional
     public ReportRes.ReportId create(Long userId, ReportReq.Create request) {
-        ChatRoom room = chatRoomRepository.findByIdAndUserId(request.chatRoomId(), userId)
-                .orElseThrow(() -> new CustomException(ExceptionType.CHAT_ROOM_NOT_FOUND));
+        chatRoomMembershipCache.get(request.chatRoomId(), userId);
 
         if (reportRepository.existsByChatRoomIdAndStatusIn(
-                room.getId(), List.of(ReportStatus.PROCESSING, ReportStatus.COMPLETED)
+                request.chatRoomId(), List.of(ReportStatus.PROCESSING, ReportStatus.COMPLETED)
         )) {
             throw new CustomException(ExceptionType.REPORT_ALREADY_EXISTS);
         }
 
+        ChatRoom room = chatRoomRepository.findById(request.chatRoomId())
+                .orElseThrow(() -> new CustomException(ExceptionType.CHAT_ROOM_NOT_FOUND));
+
         Long resumeId = room.getResumeId();
         Long chatRequestId = room.getChatRequestId();
         if (resumeId == null || chatRequestId == null) {
@@ -489,8 +503,11 @@ public class ReportService {
                 .build());
         try {
             HttpEntity<Map<String, Object>> entity = new HttpEntity<>(payload);
-            ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
-                    endpoint, HttpMethod.POST, entity, new ParameterizedTypeReference<>() {}
+            ResponseEntity<Map<String, Object>> response = aiConcurrencyLimiter.call(
+                    AiUpstream.REPORT,
+                    () -> restTemplate.exchange(
+                            endpoint, HttpMethod.POST, entity, new ParameterizedTypeReference<Map<String, Object>>() {}
+                    )
             );
             Map<String, Object> parsed = extractJobPostData(response.getBody());
             crawlLog.markSuccess(response.getStatusCode().value());
@@ -631,13 +648,34 @@ public class ReportService {
             payload.put("job_post_id", jobPostId);
             payload.put("user_skills", loadUserSkillNames(userId));
             payload.put("mentor_feedback", mapMentorFeedback(feedbackAnswers));
-            payload.put("chat_messages", loadChatMessages(chatRoomId));
+            boolean archived = chatRoomRepository.existsByIdAndArchivedAtIsNotNull(chatRoomId);
 
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(payload);
-            ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
-                    endpoint, HttpMethod.POST, entity, new ParameterizedTypeReference<>() {}
+            // chat_messages 는 List 로 모으지 않고 요청 body 에 바로 흘려 쓴다 (긴 채팅방도 힙 사용량 일정)
+            // 동시 처리 한도의 지연 샘플은 업로드(대화 기록 조회 포함)가 끝난 뒤부터 응답 수신까지로 잰다
+            ResponseExtractor<ResponseEntity<Map<String, Object>>> extractor = restTemplate.responseEntityExtractor(
+                    new ParameterizedTypeReference<Map<String, Object>>() {}.getType()
             );
-            Map<String, Object> body = response.getBody();
+            AiConcurrencyLimiter.Permit permit = aiConcurrencyLimiter.acquire(AiUpstream.REPORT);
+            ResponseEntity<Map<String, Object>> response;
+            try {
+                response = restTemplate.execute(
+                        endpoint,
+                        HttpMethod.POST,
+                        request -> writeReportGenerateRequest(request, payload, chatRoomId, archived, permit),
+                        clientResponse -> {
+                            permit.sample(false);
+                            return extractor.extractData(clientResponse);
+                        }
+                );
+            } catch (RuntimeException e) {
+                if (AiConcurrencyLimiter.isUpstreamFailure(e)) {
+                    permit.sample(true);
+                }
+                throw e;
+            } finally {
+                permit.release();
+            }
+            Map<String, Object> body = response == null ? null : response.getBody();
             if (body == null || !"OK".equals(String.valueOf(body.get("code")))) {
                 throw new CustomException(ExceptionType.AI_SERVER_ERROR);
             }
@@ -660,32 +698,70 @@ public class ReportService {
         }
     }
 
-    private List<Map<String, Object>> loadChatMessages(Long chatRoomId) {
-        List<ReportChatMessageProjection> messages = chatMessageRepository.findReportMessagesByChatIdOrderBySequence(chatRoomId);
-        List<Map<String, Object>> mapped = new ArrayList<>();
-        for (ReportChatMessageProjection message : messages) {
-            if (message == null || message.getContent() == null || message.getContent().isBlank()) {
-                continue;
-            }
-            Map<String, Object> row = new HashMap<>();
-            row.put("message_id", message.getMessageId());
-            row.put("chat_id", message.getChatId());
-            row.put("room_sequence", message.getRoomSequence());
-
-            Map<String, Object> sender = new HashMap<>();
-            sender.put("user_id", message.getSenderId());
-            sender.put("nickname", message.getSenderNickname());
-            sender.put("profile_image_url", message.getSenderProfileImageUrl());
-            sender.put("user_type", message.getSenderUserType().name());
-            row.put("sender", sender);
-
-            row.put("message_type", message.getMessageType().name());
-            row.put("content", message.getContent());
-            row.put("client_message_id", message.getClientMessageId());
-            row.put("created_at", message.getCreatedAt() == null ? null : message.getCreatedAt().toString());
-            mapped.add(row);
+    private void writeReportGenerateRequest(
+            ClientHttpRequest request,
+            Map<String, Object> payload,
+            Long chatRoomId,
+            boolean archived,
+            AiConcurrencyLimiter.Permit permit
+    ) throws IOException {
+        request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON));
+        if (request instanceof StreamingHttpOutputMessage streaming) {
+            // chunked 전송: body 를 버퍼링하지 않고 커넥션 출력 스트림에 바로 쓴다
+            streaming.setBody(out -> {
+                writeReportGenerateBody(out, payload, chatRoomId, archived);
+                permit.markRequestSent();
+            });
+            return;
         }
-        return mapped;
+        writeReportGenerateBody(request.getBody(), payload, chatRoomId, archived);
+        // 버퍼링 요청은 execute 시점에 전송되므로 body 조립이 끝난 지금을 기준으로 삼는다
+        permit.markRequestSent();
+    }
+
+    private void writeReportGenerateBody(
+            OutputStream out,
+            Map<String, Object> payload,
+            Long chatRoomId,
+            boolean archived
+    ) {
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.writeStartObject();
+            for (Map.Entry<String, Object> entry : payload.entrySet()) {
+                generator.writePOJOProperty(entry.getKey(), entry.getValue());
+            }
+            generator.writeName("chat_messages");
+            generator.writeStartArray();
+            chatTranscriptReader.forEachMessage(chatRoomId, archived, message -> {
+                if (message == null || message.getContent() == null || message.getContent().isBlank()) {
+                    return;
+                }
+                generator.writePOJO(mapChatMessage(message));
+            });
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private Map<String, Object> mapChatMessage(ReportChatMessageProjection message) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("message_id", message.getMessageId());
+        row.put("chat_id", message.getChatId());
+        row.put("room_sequence", message.getRoomSequence());
+
+        Map<String, Object> sender = new HashMap<>();
+        sender.put("user_id", message.getSenderId());
+        sender.put("nickname", message.getSenderNickname());
+        sender.put("profile_image_url", message.getSenderProfileImageUrl());
+        sender.put("user_type", message.getSenderUserType().name());
+        row.put("sender", sender);
+
+        row.put("message_type", message.getMessageType().name());
+        row.put("content", message.getContent());
+        row.put("client_message_id", message.getClientMessageId());
+        row.put("created_at", message.getCreatedAt() == null ? null : message.getCreatedAt().toString());
+        return row;
     }
 
     private List<String> loadUserSkillNames(Long userId) {
@@ -773,6 +849,7 @@ public class ReportService {
 
     private boolean isReportAsyncRetryable(CustomException e) {
         return e.getExceptionType() == ExceptionType.AI_SERVER_ERROR
+                || e.getExceptionType() == ExceptionType.AI_SERVER_BUSY
                 || e.getExceptionType() == ExceptionType.INTERNAL_SERVER_ERROR;
     }
 
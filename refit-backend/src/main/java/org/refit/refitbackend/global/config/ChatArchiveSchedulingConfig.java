@@ -6,7 +6,6 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 
 @Configuration
 @EnableScheduling
-@ConditionalOnProperty(name = {"app.kafka.enabled", "app.chat.persistence.async.enabled"}, havingValue = "true")
-public class ChatPersistenceSchedulingConfig {
+@ConditionalOnProperty(name = "app.chat.archive.enabled", havingValue = "true")
+public class ChatArchiveSchedulingConfig {
 }
-
@@ -0,0 +1,11 @@
+package org.refit.refitbackend.global.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "app.chat.presence.redis.enabled", havingValue = "true")
+public class ChatPresenceSchedulingConfig {
+}
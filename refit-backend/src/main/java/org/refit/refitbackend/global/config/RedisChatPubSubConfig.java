@@ -1,6 +1,7 @@
 package org.refit.refitbackend.global.config;
 
 import lombok.RequiredArgsConstructor;
+import org.refit.refitbackend.domain.chat.membership.RedisChatRoomMembershipBroadcaster;
 import org.refit.refitbackend.domain.chat.realtime.RedisChatRealtimeSubscriber;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -23,15 +24,31 @@ public class RedisChatPubSubConfig {
         return new ChannelTopic(channel);
     }
 
+    @Bean
+    public ChannelTopic chatMembershipInvalidationTopic(
+            @Value("${app.chat.membership-cache.channel:chat.membership.invalidate}")
+            String channel
+    ) {
+        return new ChannelTopic(channel);
+    }
+
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(
             RedisConnectionFactory connectionFactory,
             RedisChatRealtimeSubscriber subscriber,
-            ChannelTopic chatRealtimeTopic
+            RedisChatRoomMembershipBroadcaster membershipBroadcaster,
+            ChannelTopic chatRealtimeTopic,
+            ChannelTopic chatMembershipInvalidationTopic,
+            @Value("${app.chat.realtime.redis.sharding.enabled:false}")
+            boolean shardingEnabled
     ) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
-        container.addMessageListener(subscriber, chatRealtimeTopic);
+        // 샤딩 시 채팅 채널은 RedisChatRealtimeShardManager 가 로컬 구독 상황에 맞춰 동적으로 구독
+        if (!shardingEnabled) {
+            container.addMessageListener(subscriber, chatRealtimeTopic);
+        }
+        container.addMessageListener(membershipBroadcaster, chatMembershipInvalidationTopic);
         return container;
     }
 }
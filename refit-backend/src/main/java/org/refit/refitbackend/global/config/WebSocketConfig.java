@@ -1,12 +1,21 @@
 package org.refit.refitbackend.global.config;
 
 import lombok.RequiredArgsConstructor;
+import org.refit.refitbackend.domain.chat.realtime.ChatEncodingChannelInterceptor;
+import org.refit.refitbackend.global.websocket.ChatIndexedSubscriptionRegistry;
+import org.refit.refitbackend.global.websocket.ChatSendAdmissionInterceptor;
+import org.refit.refitbackend.global.websocket.FrameCoalescingSupport;
 import org.refit.refitbackend.global.websocket.JwtChannelInterceptor;
 import org.refit.refitbackend.global.websocket.JwtHandshakeInterceptor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.messaging.converter.JacksonJsonMessageConverter;
 import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.broker.DefaultSubscriptionRegistry;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
@@ -17,6 +26,7 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 import tools.jackson.databind.json.JsonMapper;
 
 import java.util.List;
+import java.util.Optional;
 
 @Configuration
 @EnableWebSocketMessageBroker
@@ -25,6 +35,9 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final JwtChannelInterceptor jwtChannelInterceptor;
     private final JwtHandshakeInterceptor jwtHandshakeInterceptor;
+    private final ChatEncodingChannelInterceptor chatEncodingChannelInterceptor;
+    private final Optional<FrameCoalescingSupport> frameCoalescingSupport;
+    private final Optional<ChatSendAdmissionInterceptor> chatSendAdmissionInterceptor;
 
     @Value("${app.websocket.inbound.core-pool-size:8}")
     private int inboundCorePoolSize;
@@ -44,6 +57,16 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Value("${app.websocket.outbound.queue-capacity:2000}")
     private int outboundQueueCapacity;
 
+    // platform(기본, ThreadPoolTaskExecutor) | virtual(가상 스레드 + 동시 실행 수 제한)
+    @Value("${app.websocket.executor.mode:platform}")
+    private String executorMode;
+
+    @Value("${app.websocket.inbound.virtual-concurrency-limit:2000}")
+    private int inboundVirtualConcurrencyLimit;
+
+    @Value("${app.websocket.outbound.virtual-concurrency-limit:2000}")
+    private int outboundVirtualConcurrencyLimit;
+
     @Value("${app.websocket.transport.send-time-limit-ms:20000}")
     private int sendTimeLimitMs;
 
@@ -53,6 +76,25 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Value("${app.websocket.transport.message-size-limit-bytes:131072}")
     private int messageSizeLimitBytes;
 
+    /**
+     * SimpleBroker 구독 레지스트리를 채팅방 인덱스 레지스트리로 교체 (하트비트/receipt 등 STOMP 처리는 그대로)
+     */
+    @Bean
+    public static BeanPostProcessor chatSubscriptionRegistryPostProcessor(
+            @Value("${app.websocket.broker.indexed-registry.enabled:true}") boolean enabled
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (enabled && bean instanceof SimpleBrokerMessageHandler handler
+                        && handler.getSubscriptionRegistry() instanceof DefaultSubscriptionRegistry defaultRegistry) {
+                    handler.setSubscriptionRegistry(new ChatIndexedSubscriptionRegistry(defaultRegistry));
+                }
+                return bean;
+            }
+        };
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // 클라이언트로 메시지를 보낼 때 사용하는 prefix
@@ -63,10 +105,20 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
         // 특정 사용자에게 메시지 보낼 때 사용
         config.setUserDestinationPrefix("/user");
+
+        // 가상 스레드 모드는 메시지마다 스레드가 달라 같은 세션의 프레임 순서가 바뀔 수 있으므로 세션별 순서를 보존
+        if (isVirtualExecutorMode()) {
+            config.setPreservePublishOrder(true);
+        }
     }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
+        // 가상 스레드 모드에서 같은 세션의 inbound 프레임(SUBSCRIBE -> SEND 등) 처리 순서 보존
+        if (isVirtualExecutorMode()) {
+            registry.setPreserveReceiveOrder(true);
+        }
+
         // WebSocket 연결 엔드포인트 설정
         registry.addEndpoint("/ws")
                 .setAllowedOrigins(
@@ -115,7 +167,14 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         // JWT 인증 인터셉터 등록 + inbound worker 튜닝
-        registration.interceptors(jwtChannelInterceptor);
+        registration.interceptors(jwtChannelInterceptor, chatEncodingChannelInterceptor);
+        frameCoalescingSupport.ifPresent(registration::interceptors);
+        // 인증 이후, inbound 큐 적재 전에 전송 입장 제어
+        chatSendAdmissionInterceptor.ifPresent(registration::interceptors);
+        if (isVirtualExecutorMode()) {
+            registration.executor(virtualThreadExecutor("ws-inbound-vt-", inboundVirtualConcurrencyLimit));
+            return;
+        }
         registration.taskExecutor()
                 .corePoolSize(inboundCorePoolSize)
                 .maxPoolSize(inboundMaxPoolSize)
@@ -125,17 +184,37 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureClientOutboundChannel(ChannelRegistration registration) {
         // outbound worker 튜닝
+        if (isVirtualExecutorMode()) {
+            registration.executor(virtualThreadExecutor("ws-outbound-vt-", outboundVirtualConcurrencyLimit));
+            return;
+        }
         registration.taskExecutor()
                 .corePoolSize(outboundCorePoolSize)
                 .maxPoolSize(outboundMaxPoolSize)
                 .queueCapacity(outboundQueueCapacity);
     }
 
+    private boolean isVirtualExecutorMode() {
+        return "virtual".equalsIgnoreCase(executorMode);
+    }
+
+    /**
+     * 메시지마다 가상 스레드를 만들고, 동시 실행 수가 한도에 닿으면 제출 스레드를 대기시켜(세마포어) 큐 없이 역압을 건다.
+     */
+    private SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix, int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        return executor;
+    }
+
     @Override
     public void configureWebSocketTransport(WebSocketTransportRegistration registry) {
         registry.setSendTimeLimit(sendTimeLimitMs);
         registry.setSendBufferSizeLimit(sendBufferSizeLimitBytes);
         registry.setMessageSizeLimit(messageSizeLimitBytes);
+        // CONNECT 에서 x-coalesce-frames:true 를 보낸 세션만 outbound 프레임 묶음 전송
+        frameCoalescingSupport.ifPresent(registry::addDecoratorFactory);
     }
 
     @Override
@@ -139,6 +139,7 @@ public enum ExceptionType {
      * ======================= */
     CHAT_NOT_FOUND(HttpStatus.NOT_FOUND, "CHAT_NOT_FOUND", "채팅을 찾을 수 없습니다."),
     CHAT_ALREADY_CLOSED(HttpStatus.BAD_REQUEST, "CHAT_ALREADY_CLOSED", "종료된 채팅에는 메시지를 보낼 수 없습니다."),
+    CHAT_SEND_OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE, "CHAT_SEND_OVERLOADED", "메시지 전송이 일시적으로 지연되고 있습니다. 잠시 후 다시 시도해 주세요."),
     MESSAGE_CONTENT_EMPTY(HttpStatus.BAD_REQUEST, "MESSAGE_CONTENT_EMPTY", "메시지 내용을 입력해 주세요."),
     MESSAGE_CONTENT_TOO_LONG(HttpStatus.BAD_REQUEST, "MESSAGE_CONTENT_TOO_LONG", "메시지 내용이 너무 깁니다."),
     CHAT_RECEIVER_REQUIRED(HttpStatus.BAD_REQUEST, "CHAT_RECEIVER_REQUIRED", "수신자 ID가 필요합니다."),
@@ -200,6 +201,7 @@ public enum ExceptionType {
     AI_CHAT_PURPOSE_INVALID(HttpStatus.BAD_REQUEST, "AI_CHAT_PURPOSE_INVALID", "목적이 올바르지 않습니다."),
     AI_CHAT_ALREADY_CLOSED(HttpStatus.BAD_REQUEST, "AI_CHAT_ALREADY_CLOSED", "종료된 AI 채팅에는 메시지를 보낼 수 없습니다."),
     AI_CHAT_STATUS_INVALID(HttpStatus.BAD_REQUEST, "AI_CHAT_STATUS_INVALID", "상태는 CLOSED여야 합니다."),
+    AI_SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "AI_SERVER_BUSY", "AI 요청이 많아 처리가 지연되고 있습니다. 잠시 후 다시 시도해 주세요."),
 
 
 
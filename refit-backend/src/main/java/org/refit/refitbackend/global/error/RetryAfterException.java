@@ -0,0 +1,16 @@
+package org.refit.refitbackend.global.error;
+
+import lombok.Getter;
+
+/**
+ * 과부하로 거절된 요청. 응답에 Retry-After 헤더를 함께 내려준다.
+ */
+@Getter
+public class RetryAfterException extends CustomException {
+    private final long retryAfterSeconds;
+
+    public RetryAfterException(ExceptionType exceptionType, long retryAfterSeconds) {
+        super(exceptionType);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
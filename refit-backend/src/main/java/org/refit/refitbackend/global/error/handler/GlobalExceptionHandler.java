@@ -5,11 +5,13 @@ import io.swagger.v3.oas.annotations.Hidden;
 import lombok.extern.slf4j.Slf4j;
 import org.refit.refitbackend.global.error.CustomException;
 import org.refit.refitbackend.global.error.ExceptionType;
+import org.refit.refitbackend.global.error.RetryAfterException;
 import org.refit.refitbackend.global.response.ApiResponse;
 import org.refit.refitbackend.global.util.ResponseUtil;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -102,6 +104,16 @@ public class GlobalExceptionHandler {
         return ResponseUtil.error(ex.getExceptionType());
     }
 
+    // 과부하 거절 (Retry-After 포함, 의도된 부하 차단이라 stack trace 없이 기록)
+    @ExceptionHandler(RetryAfterException.class)
+    public ResponseEntity<ApiResponse<Object>> handleRetryAfter(RetryAfterException ex) {
+        log.warn("Request shed: code={}, retryAfterSeconds={}",
+                ex.getExceptionType().getCode(), ex.getRetryAfterSeconds());
+        return ResponseEntity.status(ex.getExceptionType().getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponse.error(ex.getExceptionType().getCode(), ex.getExceptionType().getMessage()));
+    }
+
     // 잘못된 정적 리소스 요청(예: 존재하지 않는 actuator 엔드포인트)
     @ExceptionHandler(NoResourceFoundException.class)
     public ResponseEntity<ApiResponse<Void>> handleNoResourceFound(NoResourceFoundException ex) {
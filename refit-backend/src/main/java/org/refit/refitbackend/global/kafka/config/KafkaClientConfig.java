@@ -31,6 +31,7 @@ public class KafkaClientConfig {
     @Bean
     public ProducerFactory<Object, Object> producerFactory(
             @Value("${spring.kafka.bootstrap-servers}") String bootstrapServers,
+            @Value("${app.kafka.producer.idempotence:true}") boolean idempotence,
             MeterRegistry meterRegistry
     ) {
         Map<String, Object> props = new HashMap<>();
@@ -38,7 +39,8 @@ public class KafkaClientConfig {
         props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
         props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
         props.put(ProducerConfig.ACKS_CONFIG, "all");
-        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        // 멱등 producer: 재시도 시 중복/순서 뒤바뀜 없이 같은 키(chatId)의 순서를 유지 (in-flight 5 이하 필요)
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, idempotence);
         props.put(ProducerConfig.RETRIES_CONFIG, 10);
         props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
         DefaultKafkaProducerFactory<Object, Object> factory = new DefaultKafkaProducerFactory<>(props);
@@ -101,6 +103,9 @@ public class KafkaClientConfig {
             if (topic.equals(topicProperties.getChatMessagePersistRequested())) {
                 return new TopicPartition(topicProperties.getChatMessagePersistRequestedDlq(), record.partition());
             }
+            if (topic.equals(topicProperties.getChatMessageEvents())) {
+                return new TopicPartition(topicProperties.getChatMessageEventsDlq(), record.partition());
+            }
             if (topic.equals(topicProperties.getNotificationRequested())) {
                 return new TopicPartition(topicProperties.getNotificationRequestedDlq(), record.partition());
             }
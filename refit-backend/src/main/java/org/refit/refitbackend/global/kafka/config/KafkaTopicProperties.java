@@ -18,6 +18,8 @@ public class KafkaTopicProperties {
     private String notificationPushRequestedDlq = "notification.push.requested.dlq";
     private String chatMessagePersistRequested = "chat.message.persist.requested";
     private String chatMessagePersistRequestedDlq = "chat.message.persist.requested.dlq";
+    private String chatMessageEvents = "chat.message.events";
+    private String chatMessageEventsDlq = "chat.message.events.dlq";
 
     public String getResumeParseRequested() {
         return resumeParseRequested;
@@ -91,6 +93,22 @@ public class KafkaTopicProperties {
         this.chatMessagePersistRequestedDlq = chatMessagePersistRequestedDlq;
     }
 
+    public String getChatMessageEvents() {
+        return chatMessageEvents;
+    }
+
+    public void setChatMessageEvents(String chatMessageEvents) {
+        this.chatMessageEvents = chatMessageEvents;
+    }
+
+    public String getChatMessageEventsDlq() {
+        return chatMessageEventsDlq;
+    }
+
+    public void setChatMessageEventsDlq(String chatMessageEventsDlq) {
+        this.chatMessageEventsDlq = chatMessageEventsDlq;
+    }
+
     public String getNotificationRequested() {
         return notificationRequested;
     }
@@ -117,4 +117,20 @@ public class KafkaTopicsConfig {
                 .replicas(1)
                 .build();
     }
+
+    @Bean
+    public NewTopic chatMessageEventsTopic(KafkaTopicProperties topicProperties) {
+        return TopicBuilder.name(topicProperties.getChatMessageEvents())
+                .partitions(3)
+                .replicas(1)
+                .build();
+    }
+
+    @Bean
+    public NewTopic chatMessageEventsDlqTopic(KafkaTopicProperties topicProperties) {
+        return TopicBuilder.name(topicProperties.getChatMessageEventsDlq())
+                .partitions(3)
+                .replicas(1)
+                .build();
+    }
 }
@@ -0,0 +1,85 @@
+package org.refit.refitbackend.global.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * WebSocket 채널을 가상 스레드로 실행할 때 carrier 고정(pinning) 이벤트를 JFR 스트림으로 수집한다.
+ * 애플리케이션 코드의 첫 프레임(synchronized 구간 위치) 단위로 카운트하고, 위치별 첫 발생만 경고 로그로 남긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.websocket.executor.mode", havingValue = "virtual")
+public class VirtualThreadPinnedEventMonitor {
+
+    private static final String EVENT_NAME = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE_PREFIX = "org.refit.";
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinnedEventMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${app.websocket.executor.pinned-threshold-ms:20}") long thresholdMs
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = Duration.ofMillis(thresholdMs);
+    }
+
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(EVENT_NAME).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(EVENT_NAME, this::onPinned);
+        recordingStream.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String frame = firstApplicationFrame(event);
+        Counter counter = counters.computeIfAbsent(frame, key -> {
+            log.warn("Virtual thread pinned. frame={}, duration={}ms", key, event.getDuration().toMillis());
+            return Counter.builder("websocket.virtual_thread.pinned")
+                    .tag("frame", key)
+                    .register(meterRegistry);
+        });
+        counter.increment();
+    }
+
+    private String firstApplicationFrame(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            if (!frame.isJavaFrame() || frame.getMethod() == null) {
+                continue;
+            }
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith(APP_PACKAGE_PREFIX)) {
+                return type.substring(type.lastIndexOf('.') + 1) + "." + frame.getMethod().getName();
+            }
+        }
+        return "external";
+    }
+}
@@ -0,0 +1,98 @@
+package org.refit.refitbackend.global.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지연 시간 기반 gradient 동시 처리 한도.
+ * 단기 RTT(최근 요청)와 장기 RTT(기준선)의 비율로 한도를 줄이거나 늘린다.
+ * 실패(타임아웃, 5xx)는 한도를 곧바로 줄인다.
+ * 한도를 다 쓰지 않는 동안(in-flight < limit/2)에는 늘리지 않아 유휴 시간에 한도가 부풀지 않는다.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final double SHORT_RTT_ALPHA = 2.0 / (10 + 1);
+    private static final double LONG_RTT_ALPHA = 2.0 / (600 + 1);
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double DROP_DECREASE_RATIO = 0.9;
+    private static final long MAX_RETRY_AFTER_SECONDS = 30L;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double rttTolerance;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double shortRttMs;
+    private double longRttMs;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double smoothing, double rttTolerance) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.smoothing = smoothing;
+        this.rttTolerance = rttTolerance;
+        this.estimatedLimit = Math.clamp(initialLimit, this.minLimit, this.maxLimit);
+        this.limit = (int) estimatedLimit;
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    public synchronized void onSample(long rttMs, boolean dropped) {
+        double rtt = Math.max(1.0, rttMs);
+        if (longRttMs == 0.0) {
+            shortRttMs = rtt;
+            longRttMs = rtt;
+        } else {
+            shortRttMs += SHORT_RTT_ALPHA * (rtt - shortRttMs);
+            longRttMs += LONG_RTT_ALPHA * (rtt - longRttMs);
+            // 지연이 크게 튄 뒤 회복되면 기준선도 빠르게 따라 내려오게 한다
+            if (longRttMs / shortRttMs > 2.0) {
+                longRttMs *= 0.95;
+            }
+        }
+
+        double newLimit;
+        if (dropped) {
+            newLimit = estimatedLimit * DROP_DECREASE_RATIO;
+        } else {
+            if (inFlight.get() < estimatedLimit / 2) {
+                return;
+            }
+            double gradient = Math.clamp(rttTolerance * longRttMs / shortRttMs, MIN_GRADIENT, 1.0);
+            double queueSize = Math.sqrt(estimatedLimit);
+            newLimit = estimatedLimit * gradient + queueSize;
+        }
+        estimatedLimit = Math.clamp(estimatedLimit * (1 - smoothing) + newLimit * smoothing, minLimit, maxLimit);
+        limit = (int) estimatedLimit;
+    }
+
+    /**
+     * 자리가 날 때까지의 대략적인 대기 시간 (최근 RTT 기준, 1~30초).
+     */
+    public synchronized long retryAfterSeconds() {
+        return Math.clamp((long) Math.ceil(shortRttMs / 1000.0), 1L, MAX_RETRY_AFTER_SECONDS);
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+}
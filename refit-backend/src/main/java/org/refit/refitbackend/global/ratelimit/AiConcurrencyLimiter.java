@@ -0,0 +1,138 @@
+package org.refit.refitbackend.global.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.refit.refitbackend.global.error.ExceptionType;
+import org.refit.refitbackend.global.error.RetryAfterException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * AI 서버 호출 종류별 적응형 동시 처리 한도.
+ * 정적 요청 수 제한(RateLimitPolicy)과 달리, AI 서버가 느려져 진행 중 호출(SSE 중계 포함)이 쌓이면 한도가 줄어들어
+ * 초과 요청을 AI 서버에 보내지 않고 곧바로 503 + Retry-After 로 거절한다.
+ */
+@Component
+public class AiConcurrencyLimiter {
+
+    private final boolean enabled;
+    private final Map<AiUpstream, AdaptiveConcurrencyLimit> limits = new EnumMap<>(AiUpstream.class);
+    private final Map<AiUpstream, Counter> rejectedCounters = new EnumMap<>(AiUpstream.class);
+
+    public AiConcurrencyLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${ai.concurrency.enabled:true}") boolean enabled,
+            @Value("${ai.concurrency.initial-limit:20}") int initialLimit,
+            @Value("${ai.concurrency.min-limit:2}") int minLimit,
+            @Value("${ai.concurrency.max-limit:200}") int maxLimit,
+            @Value("${ai.concurrency.smoothing:0.2}") double smoothing,
+            @Value("${ai.concurrency.rtt-tolerance:1.5}") double rttTolerance
+    ) {
+        this.enabled = enabled;
+        for (AiUpstream upstream : AiUpstream.values()) {
+            AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit, smoothing, rttTolerance);
+            limits.put(upstream, limit);
+            Gauge.builder("ai.concurrency.limit", limit, AdaptiveConcurrencyLimit::limit)
+                    .tag("upstream", upstream.tag())
+                    .register(meterRegistry);
+            Gauge.builder("ai.concurrency.in_flight", limit, AdaptiveConcurrencyLimit::inFlight)
+                    .tag("upstream", upstream.tag())
+                    .register(meterRegistry);
+            rejectedCounters.put(upstream, Counter.builder("ai.concurrency.rejected")
+                    .tag("upstream", upstream.tag())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 자리를 확보한다. 한도에 도달했으면 AI_SERVER_BUSY(Retry-After) 로 거절한다.
+     * 반환된 permit 은 응답 지연을 sample 로 기록하고, 호출이 끝나면 반드시 release 해야 한다.
+     */
+    public Permit acquire(AiUpstream upstream) {
+        if (!enabled) {
+            return Permit.NOOP;
+        }
+        AdaptiveConcurrencyLimit limit = limits.get(upstream);
+        if (!limit.tryAcquire()) {
+            rejectedCounters.get(upstream).increment();
+            throw new RetryAfterException(ExceptionType.AI_SERVER_BUSY, limit.retryAfterSeconds());
+        }
+        return new Permit(limit);
+    }
+
+    /**
+     * 동기 호출 전체 시간을 지연으로 기록한다. 타임아웃/IO 오류와 5xx 만 과부하 신호(drop)로 보고,
+     * 그 밖의 예외(요청 조립 중 DB 오류 등)는 AI 서버 상태와 무관하므로 기록하지 않는다.
+     */
+    public <T> T call(AiUpstream upstream, Supplier<T> call) {
+        Permit permit = acquire(upstream);
+        try {
+            T result = call.get();
+            permit.sample(false);
+            return result;
+        } catch (RuntimeException e) {
+            if (isUpstreamFailure(e)) {
+                permit.sample(true);
+            }
+            throw e;
+        } finally {
+            permit.release();
+        }
+    }
+
+    /**
+     * HTTP 클라이언트가 낸 타임아웃/IO 오류(ResourceAccessException) 또는 5xx 응답.
+     */
+    public static boolean isUpstreamFailure(Throwable e) {
+        if (e instanceof ResourceAccessException) {
+            return true;
+        }
+        return e instanceof HttpStatusCodeException statusCodeException
+                && statusCodeException.getStatusCode().is5xxServerError();
+    }
+
+    public static final class Permit {
+        private static final Permit NOOP = new Permit(null);
+
+        private final AdaptiveConcurrencyLimit limit;
+        private volatile long startedAt = System.nanoTime();
+        private final AtomicBoolean sampled = new AtomicBoolean();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(AdaptiveConcurrencyLimit limit) {
+            this.limit = limit;
+        }
+
+        /**
+         * 지연 측정 시작점을 지금으로 옮긴다. 요청 조립/업로드(DB 조회 등)를 AI 서버 지연에서 빼기 위해 전송 직후 호출한다.
+         */
+        public void markRequestSent() {
+            startedAt = System.nanoTime();
+        }
+
+        /**
+         * 획득 시점(또는 markRequestSent)부터의 지연을 한 번만 기록한다. (SSE 중계는 첫 응답 수신 시점에 호출)
+         */
+        public void sample(boolean dropped) {
+            if (limit == null || !sampled.compareAndSet(false, true)) {
+                return;
+            }
+            limit.onSample((System.nanoTime() - startedAt) / 1_000_000L, dropped);
+        }
+
+        public void release() {
+            if (limit == null || !released.compareAndSet(false, true)) {
+                return;
+            }
+            limit.release();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.refit.refitbackend.global.ratelimit;
+
+/**
+ * 동시 처리 한도를 따로 관리하는 AI 서버 호출 종류.
+ */
+public enum AiUpstream {
+    AGENT_REPLY("agent_reply"),
+    REPORT("report"),
+    EXPERT_RECOMMENDATION("expert_recommendation");
+
+    private final String tag;
+
+    AiUpstream(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+}
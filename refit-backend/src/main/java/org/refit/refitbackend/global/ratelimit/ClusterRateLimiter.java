@@ -0,0 +1,140 @@
+package org.refit.refitbackend.global.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 2단 rate limiter. Redis(RedisRateLimitStore)가 클러스터 전체 카운트의 기준이고,
+ * 노드는 Redis 에서 받은 토큰 묶음(lease)을 로컬에서 소진해 대부분의 요청이 Redis 를 거치지 않게 한다.
+ * 거절 응답도 window 가 끝날 때까지 로컬에 캐시한다.
+ * Redis 비활성/장애 시에는 노드 로컬 LocalRateLimiter 로 판정한다 (fail-open, 노드별 한도).
+ * 판정 결과는 RateLimitHeavyHitters(활성화 시)에 기록된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterRateLimiter {
+
+    private final LocalRateLimiter localRateLimiter;
+    private final Optional<RedisRateLimitStore> redisRateLimitStore;
+    private final Optional<RateLimitHeavyHitters> heavyHitters;
+    // lease 크기 = limit × ratio (1 ~ max-lease). 한 노드가 미리 가져간 토큰만큼 다른 노드의 여유가 줄어드므로 작게 유지
+    @Value("${app.rate-limit.redis.lease-ratio:0.1}")
+    private double leaseRatio;
+    @Value("${app.rate-limit.redis.max-lease:20}")
+    private int maxLease;
+    @Value("${app.rate-limit.redis.failure-backoff-ms:5000}")
+    private long failureBackoffMs;
+
+    private final ConcurrentHashMap<String, ConcurrentHashMap<Object, Lease>> leases = new ConcurrentHashMap<>();
+    private volatile long redisRetryAtMs;
+
+    public RateLimitResult check(RateLimitRule rule, Object subject) {
+        RateLimitResult result = decide(rule, subject);
+        if (heavyHitters.isPresent()) {
+            heavyHitters.get().record(rule, subject, result.allowed());
+        }
+        return result;
+    }
+
+    private RateLimitResult decide(RateLimitRule rule, Object subject) {
+        if (redisRateLimitStore.isEmpty()) {
+            return localRateLimiter.check(rule, subject);
+        }
+        long now = System.currentTimeMillis();
+        if (now < redisRetryAtMs) {
+            return localRateLimiter.check(rule, subject);
+        }
+
+        ConcurrentHashMap<Object, Lease> ruleLeases = leasesOf(rule);
+        Lease lease = ruleLeases.get(subject);
+        if (lease != null && now < lease.expiresAtMs) {
+            if (lease.denied) {
+                return block(lease.expiresAtMs - now);
+            }
+            if (lease.tryConsume()) {
+                return RateLimitResult.allow();
+            }
+        }
+        return acquire(rule, subject, ruleLeases, now);
+    }
+
+    /**
+     * window 가 끝난 lease 정리 (요청 경로 밖에서 수행).
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.redis.lease-sweep-interval-ms:10000}")
+    public void sweepExpiredLeases() {
+        long now = System.currentTimeMillis();
+        for (ConcurrentHashMap<Object, Lease> ruleLeases : leases.values()) {
+            ruleLeases.values().removeIf(lease -> lease.expiresAtMs <= now);
+        }
+    }
+
+    private RateLimitResult acquire(RateLimitRule rule, Object subject, ConcurrentHashMap<Object, Lease> ruleLeases, long now) {
+        RedisRateLimitStore.Grant grant;
+        try {
+            grant = redisRateLimitStore.get().acquire(rule, subject, leaseSize(rule));
+        } catch (RuntimeException e) {
+            redisRetryAtMs = now + failureBackoffMs;
+            log.warn("[RATE_LIMIT] redis unavailable, fallback to local for {}ms. rule={}, reason={}",
+                    failureBackoffMs, rule.name(), e.getMessage());
+            return localRateLimiter.check(rule, subject);
+        }
+
+        long expiresAtMs = now + Math.max(1L, grant.windowRemainingMs());
+        // 동시에 재발급받은 lease 가 덮어써지면 남은 토큰은 버려진다 (덜 통과시키는 쪽으로만 어긋남)
+        if (grant.granted() <= 0) {
+            ruleLeases.put(subject, new Lease(expiresAtMs, 0, true));
+            return block(expiresAtMs - now);
+        }
+        ruleLeases.put(subject, new Lease(expiresAtMs, grant.granted() - 1, false));
+        return RateLimitResult.allow();
+    }
+
+    private ConcurrentHashMap<Object, Lease> leasesOf(RateLimitRule rule) {
+        ConcurrentHashMap<Object, Lease> ruleLeases = leases.get(rule.name());
+        if (ruleLeases == null) {
+            ruleLeases = leases.computeIfAbsent(rule.name(), ignored -> new ConcurrentHashMap<>());
+        }
+        return ruleLeases;
+    }
+
+    private int leaseSize(RateLimitRule rule) {
+        return Math.max(1, Math.min(maxLease, (int) (rule.limit() * leaseRatio)));
+    }
+
+    private RateLimitResult block(long retryAfterMs) {
+        return RateLimitResult.block(Math.max(1L, (retryAfterMs + 999L) / 1000L));
+    }
+
+    private static final class Lease {
+        private final long expiresAtMs;
+        private final AtomicInteger remaining;
+        private final boolean denied;
+
+        private Lease(long expiresAtMs, int remaining, boolean denied) {
+            this.expiresAtMs = expiresAtMs;
+            this.remaining = new AtomicInteger(remaining);
+            this.denied = denied;
+        }
+
+        private boolean tryConsume() {
+            while (true) {
+                int current = remaining.get();
+                if (current <= 0) {
+                    return false;
+                }
+                if (remaining.compareAndSet(current, current - 1)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
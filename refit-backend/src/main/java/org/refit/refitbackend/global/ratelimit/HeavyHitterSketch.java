@@ -0,0 +1,139 @@
+package org.refit.refitbackend.global.ratelimit;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * count-min sketch + top-K 로 빈도가 높은 키를 추적한다. 키 종류 수와 무관하게 메모리가 (depth × width + K) 로 고정된다.
+ * 추정치는 실제 값 이상(과대 추정)이며, 주기적으로 decay() 해 최근 트래픽 위주로 유지한다.
+ * 이미 top-K 에 있는 키는 다른 키를 밀어낼 일이 없으므로 추정치만 락 없이 올리고, top-K 구성이 바뀌는 경우에만 락을 잡는다.
+ */
+class HeavyHitterSketch {
+
+    private static final int DEPTH = 4;
+    private static final int[] SEEDS = {0x9E3779B1, 0x85EBCA77, 0xC2B2AE3D, 0x27D4EB2F};
+
+    private final int width;
+    private final int mask;
+    private final int capacity;
+    private final AtomicLongArray counts;
+    private final AtomicLong total = new AtomicLong();
+    // 키 추가/제거는 this 락에서만. 추정치 갱신은 락 없이 AtomicLong 으로
+    private final Map<Object, AtomicLong> top;
+    // top 이 가득 찼을 때의 최소 추정치. 이 값 이하인 키는 락 없이 건너뛴다
+    // (추적 중인 키의 추정치가 락 밖에서 오르므로 실제 최소보다 작을 수 있고, 그만큼 offer 가 더 불릴 뿐이다)
+    private volatile long admissionThreshold;
+
+    HeavyHitterSketch(int width, int capacity) {
+        this.width = Integer.highestOneBit(Math.max(16, width));
+        this.mask = this.width - 1;
+        this.capacity = Math.max(1, capacity);
+        this.counts = new AtomicLongArray(DEPTH * this.width);
+        this.top = new ConcurrentHashMap<>(this.capacity * 2);
+    }
+
+    void add(Object subject) {
+        total.incrementAndGet();
+        int hash = subject.hashCode();
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counts.incrementAndGet(row * width + index(hash, row)));
+        }
+        AtomicLong tracked = top.get(subject);
+        if (tracked != null) {
+            tracked.accumulateAndGet(estimate, Math::max);
+            return;
+        }
+        if (estimate <= admissionThreshold) {
+            return;
+        }
+        offer(subject, estimate);
+    }
+
+    /**
+     * 모든 추정치를 절반으로 줄인다 (동시 add 와의 경합으로 생기는 오차는 허용).
+     */
+    synchronized void decay() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, counts.get(i) >> 1);
+        }
+        total.updateAndGet(value -> value >> 1);
+        Iterator<AtomicLong> iterator = top.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().updateAndGet(value -> value >> 1) == 0) {
+                iterator.remove();
+            }
+        }
+        admissionThreshold = top.size() < capacity ? 0 : minCount();
+    }
+
+    List<Entry> top() {
+        List<Entry> entries = new ArrayList<>(top.size());
+        top.forEach((subject, count) -> entries.add(new Entry(String.valueOf(subject), count.get())));
+        entries.sort(Comparator.comparingLong(Entry::estimate).reversed());
+        return entries;
+    }
+
+    /**
+     * rank(1부터) 번째 키의 추정치. 해당 순위가 없으면 0.
+     */
+    long estimateAtRank(int rank) {
+        List<Entry> entries = top();
+        return rank <= entries.size() ? entries.get(rank - 1).estimate() : 0L;
+    }
+
+    long total() {
+        return total.get();
+    }
+
+    private synchronized void offer(Object subject, long estimate) {
+        AtomicLong tracked = top.get(subject);
+        if (tracked != null) {
+            tracked.accumulateAndGet(estimate, Math::max);
+            return;
+        }
+        if (top.size() >= capacity) {
+            Object minSubject = null;
+            long minCount = Long.MAX_VALUE;
+            for (Map.Entry<Object, AtomicLong> entry : top.entrySet()) {
+                long count = entry.getValue().get();
+                if (count < minCount) {
+                    minCount = count;
+                    minSubject = entry.getKey();
+                }
+            }
+            if (estimate <= minCount) {
+                admissionThreshold = minCount;
+                return;
+            }
+            top.remove(minSubject);
+        }
+        top.put(subject, new AtomicLong(estimate));
+        admissionThreshold = top.size() < capacity ? 0 : minCount();
+    }
+
+    private long minCount() {
+        long min = Long.MAX_VALUE;
+        for (AtomicLong count : top.values()) {
+            min = Math.min(min, count.get());
+        }
+        return min == Long.MAX_VALUE ? 0 : min;
+    }
+
+    private int index(int hash, int row) {
+        int mixed = hash * SEEDS[row];
+        mixed ^= mixed >>> 15;
+        mixed *= 0x2C1B3C6D;
+        mixed ^= mixed >>> 12;
+        return mixed & mask;
+    }
+
+    record Entry(String key, long estimate) {
+    }
+}
@@ -1,58 +1,197 @@
 package org.refit.refitbackend.global.ratelimit;
 
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
-import java.util.Iterator;
-import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
+/**
+ * 노드 로컬 sliding-window 카운터 (락 없음).
+ * 키별 상태를 AtomicLong 하나에 [window index 32bit | 이전 window 카운트 16bit | 현재 window 카운트 16bit] 로 담아 CAS 로 갱신하고,
+ * 추정치 = 이전 카운트 × (남은 비율) + 현재 카운트 가 limit 미만일 때만 통과시킨다.
+ * 카운터는 규칙(scope)별 map 에 subject(IP, userId 등) 로 보관해 호출마다 문자열 키를 만들지 않으며,
+ * 두 window 이상 쓰이지 않은 카운터는 timing wheel 이 정리한다.
+ */
 @Component
 public class LocalRateLimiter {
 
-    private final ConcurrentHashMap<String, Counter> store = new ConcurrentHashMap<>();
+    private static final long COUNT_MASK = 0xFFFFL;
+    private static final int MAX_COUNT = (int) COUNT_MASK;
+    private static final long TICK_MS = 1000L;
+    private static final int WHEEL_SIZE = 64;
+    private static final long ORIGIN_NANOS = System.nanoTime();
 
-    public synchronized RateLimitResult check(String key, int limit, Duration window) {
-        long now = System.currentTimeMillis();
-        long windowMs = window.toMillis();
+    private final ConcurrentHashMap<String, ConcurrentHashMap<Object, Slot>> scopes = new ConcurrentHashMap<>();
+    private final LongSupplier clock;
+    private final ExpiryWheel expiryWheel;
 
-        Counter counter = store.get(key);
-        if (counter == null || now - counter.windowStartMs >= windowMs) {
-            store.put(key, new Counter(now, 1));
-            cleanupIfNeeded(now, windowMs);
-            return RateLimitResult.allow();
+    public LocalRateLimiter() {
+        this(() -> (System.nanoTime() - ORIGIN_NANOS) / 1_000_000L);
+    }
+
+    // 테스트용 시계 주입 (단조 증가 ms)
+    LocalRateLimiter(LongSupplier clock) {
+        this.clock = clock;
+        this.expiryWheel = new ExpiryWheel(clock.getAsLong());
+    }
+
+    public RateLimitResult check(RateLimitRule rule, Object subject) {
+        return check(rule.name(), subject, rule.limit(), rule.window());
+    }
+
+    public RateLimitResult check(String scope, Object subject, int limit, Duration window) {
+        long windowMs = Math.max(1L, window.toMillis());
+        int effectiveLimit = Math.min(limit, MAX_COUNT);
+        long now = clock.getAsLong();
+        Slot slot = slotOf(scope, subject, windowMs, now);
+
+        long windowIndex = now / slot.windowMs;
+        long elapsedMs = now % slot.windowMs;
+        while (true) {
+            long current = slot.state.get();
+            long storedIndex = current >>> 32;
+            int prevCount;
+            int currCount;
+            if (storedIndex == (windowIndex & 0xFFFFFFFFL)) {
+                prevCount = (int) ((current >>> 16) & COUNT_MASK);
+                currCount = (int) (current & COUNT_MASK);
+            } else if (storedIndex == ((windowIndex - 1) & 0xFFFFFFFFL)) {
+                prevCount = (int) (current & COUNT_MASK);
+                currCount = 0;
+            } else {
+                prevCount = 0;
+                currCount = 0;
+            }
+
+            // 추정치 >= limit 를 양변에 windowMs 를 곱해 정수로 비교 (경계에서 부동소수 오차 없음)
+            long weighted = prevCount * (slot.windowMs - elapsedMs) + currCount * slot.windowMs;
+            if (weighted >= effectiveLimit * slot.windowMs) {
+                long retryAfterMs = retryAfterMs(slot.windowMs, elapsedMs, prevCount, currCount, effectiveLimit);
+                return RateLimitResult.block(Math.max(1L, (retryAfterMs + 999L) / 1000L));
+            }
+
+            long next = pack(windowIndex, prevCount, Math.min(currCount + 1, MAX_COUNT));
+            if (slot.state.compareAndSet(current, next)) {
+                return RateLimitResult.allow();
+            }
         }
+    }
 
-        if (counter.count < limit) {
-            counter.count += 1;
-            return RateLimitResult.allow();
+    /**
+     * 현재 tick 까지 도달한 wheel 버킷을 돌며 유휴 카운터를 제거한다.
+     */
+    @Scheduled(fixedDelay = TICK_MS)
+    public void expireIdle() {
+        expiryWheel.advance(clock.getAsLong());
+    }
+
+    private Slot slotOf(String scope, Object subject, long windowMs, long now) {
+        ConcurrentHashMap<Object, Slot> slots = scopes.get(scope);
+        if (slots == null) {
+            slots = scopes.computeIfAbsent(scope, ignored -> new ConcurrentHashMap<>());
+        }
+        Slot slot = slots.get(subject);
+        if (slot != null) {
+            return slot;
+        }
+        Slot created = new Slot(slots, subject, windowMs, now);
+        Slot existing = slots.putIfAbsent(subject, created);
+        if (existing != null) {
+            return existing;
         }
+        expiryWheel.schedule(created, now);
+        return created;
+    }
+
+    /**
+     * 차단 해제까지 남은 시간. 현재 window 안에서 이전 window 가중치가 줄어 풀리거나, 다음 window 로 넘어간 뒤 현재 카운트 가중치가 줄어 풀린다.
+     * 해제 시각은 추정치가 limit 보다 작아지는 첫 ms (같으면 아직 차단)이다.
+     */
+    static long retryAfterMs(long windowMs, long elapsedMs, int prevCount, int currCount, int limit) {
+        if (currCount < limit && prevCount > 0) {
+            // prev × (W - t) / W + curr < limit  ⇔  t > W × (prev - (limit - curr)) / prev
+            long releaseAt = windowMs * (prevCount - (limit - currCount)) / prevCount + 1;
+            return Math.max(1L, releaseAt - elapsedMs);
+        }
+        // 다음 window 에서 curr × (W - t) / W < limit  ⇔  t > W × (curr - limit) / curr
+        long releaseAfterRoll = windowMs * (currCount - limit) / Math.max(1, currCount) + 1;
+        return (windowMs - elapsedMs) + Math.max(1L, releaseAfterRoll);
+    }
 
-        long retryAfterMs = windowMs - (now - counter.windowStartMs);
-        long retryAfterSeconds = Math.max(1, retryAfterMs / 1000);
-        return RateLimitResult.block(retryAfterSeconds);
+    private static long pack(long windowIndex, int prevCount, int currCount) {
+        return ((windowIndex & 0xFFFFFFFFL) << 32) | ((long) prevCount << 16) | currCount;
     }
 
-    private void cleanupIfNeeded(long now, long windowMs) {
-        if (store.size() < 10000) {
-            return;
+    private static final class Slot {
+        private final ConcurrentHashMap<Object, Slot> owner;
+        private final Object subject;
+        private final long windowMs;
+        private final AtomicLong state = new AtomicLong();
+
+        private Slot(ConcurrentHashMap<Object, Slot> owner, Object subject, long windowMs, long nowMs) {
+            this.owner = owner;
+            this.subject = subject;
+            this.windowMs = windowMs;
+            this.state.set(pack(nowMs / windowMs, 0, 0));
         }
-        Iterator<Map.Entry<String, Counter>> iterator = store.entrySet().iterator();
-        while (iterator.hasNext()) {
-            Map.Entry<String, Counter> entry = iterator.next();
-            if (now - entry.getValue().windowStartMs >= windowMs) {
-                iterator.remove();
-            }
+
+        // 마지막 갱신 window 의 다음 window 까지 지나면 추정치가 0 이므로 지워도 결과가 같다
+        private long idleAtMs(long nowMs) {
+            long storedIndex = state.get() >>> 32;
+            long nowIndex = nowMs / windowMs;
+            long lastIndex = nowIndex - ((nowIndex - storedIndex) & 0xFFFFFFFFL);
+            return (lastIndex + 2) * windowMs;
         }
     }
 
-    private static final class Counter {
-        private final long windowStartMs;
-        private int count;
+    /**
+     * 1초 tick 의 hashed timing wheel. 카운터는 생성 시 한 번 등록되고, 버킷 방문 시 유휴면 제거, 아니면 다음 유휴 예상 시각으로 재등록된다.
+     * 제거 직전에 카운터를 집어 간 요청의 카운트 1건은 유실될 수 있으나, 유휴(두 window 동안 미사용) 키에서만 일어난다.
+     */
+    private static final class ExpiryWheel {
+        @SuppressWarnings("unchecked")
+        private final ConcurrentLinkedQueue<Slot>[] buckets = new ConcurrentLinkedQueue[WHEEL_SIZE];
+        private volatile long lastTick;
+
+        private ExpiryWheel(long nowMs) {
+            for (int i = 0; i < WHEEL_SIZE; i++) {
+                buckets[i] = new ConcurrentLinkedQueue<>();
+            }
+            this.lastTick = nowMs / TICK_MS;
+        }
+
+        private void schedule(Slot slot, long atMs) {
+            long tick = Math.max(atMs / TICK_MS, lastTick + 1);
+            buckets[(int) (tick % WHEEL_SIZE)].add(slot);
+        }
 
-        private Counter(long windowStartMs, int count) {
-            this.windowStartMs = windowStartMs;
-            this.count = count;
+        private void advance(long nowMs) {
+            long targetTick = nowMs / TICK_MS;
+            long from = Math.max(lastTick + 1, targetTick - WHEEL_SIZE + 1);
+            for (long tick = from; tick <= targetTick; tick++) {
+                lastTick = tick;
+                expireBucket(buckets[(int) (tick % WHEEL_SIZE)], nowMs);
+            }
+        }
+
+        private void expireBucket(ConcurrentLinkedQueue<Slot> bucket, long nowMs) {
+            // 순회 중 같은 버킷으로 재등록되는 항목은 다음 바퀴에서 처리
+            for (int remaining = bucket.size(); remaining > 0; remaining--) {
+                Slot slot = bucket.poll();
+                if (slot == null) {
+                    return;
+                }
+                long idleAtMs = slot.idleAtMs(nowMs);
+                if (idleAtMs <= nowMs) {
+                    slot.owner.remove(slot.subject, slot);
+                } else {
+                    schedule(slot, idleAtMs);
+                }
+            }
         }
     }
 }
@@ -13,13 +13,13 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class RateLimitFilter extends OncePerRequestFilter {
 
-    private final RateLimitPolicy policy;
-    private final LocalRateLimiter rateLimiter;
+    private final ClusterRateLimiter rateLimiter;
     private final RateLimitKeyResolver keyResolver;
     private final RateLimitMatcher matcher;
     private final ObjectMapper objectMapper = new ObjectMapper();
@@ -44,16 +44,15 @@ public class RateLimitFilter extends OncePerRequestFilter {
             return;
         }
 
-        for (RateLimitRule rule : policy.rules()) {
-            if (rule.target() != RateLimitTarget.IP) {
-                continue;
-            }
-            if (!matcher.matches(rule, request.getMethod(), path)) {
-                continue;
-            }
-            String ip = keyResolver.resolveClientIp(request);
-            String key = "rate:ip:" + ip + ":" + rule.name();
-            RateLimitResult result = rateLimiter.check(key, rule.limit(), rule.window());
+        List<RateLimitRule> rules = matcher.match(RateLimitTarget.IP, request.getMethod(), path);
+        if (rules.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String ip = keyResolver.resolveClientIp(request);
+        for (RateLimitRule rule : rules) {
+            RateLimitResult result = rateLimiter.check(rule, ip);
             if (!result.allowed()) {
                 writeRateLimit(response, result.retryAfterSeconds());
                 return;
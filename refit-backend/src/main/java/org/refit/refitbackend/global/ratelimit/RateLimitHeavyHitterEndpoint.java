@@ -0,0 +1,33 @@
+package org.refit.refitbackend.global.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * /actuator/ratelimithitters, /actuator/ratelimithitters/{rule}
+ * IP/사용자 ID 가 그대로 노출되므로 actuator 가 공개된 환경에서는 web exposure 에 넣지 않는다.
+ */
+@Component
+@Endpoint(id = "ratelimithitters")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.rate-limit.heavy-hitters.enabled", havingValue = "true")
+public class RateLimitHeavyHitterEndpoint {
+
+    private final RateLimitHeavyHitters heavyHitters;
+
+    @ReadOperation
+    public Map<String, RateLimitHeavyHitters.RuleSnapshot> hitters() {
+        return heavyHitters.snapshot();
+    }
+
+    @ReadOperation
+    public RateLimitHeavyHitters.RuleSnapshot hittersByRule(@Selector String rule) {
+        return heavyHitters.snapshot(rule);
+    }
+}
@@ -0,0 +1,126 @@
+package org.refit.refitbackend.global.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 규칙별 rate limit 판정의 heavy hitter(요청/차단이 많은 IP, 사용자) 추적.
+ * 규칙마다 요청/차단 두 개의 HeavyHitterSketch 를 두어 키 종류 수와 무관하게 메모리가 고정되며,
+ * 키 목록은 actuator(ratelimithitters)로만 노출하고 Micrometer 에는 키 없이 순위별 추정치만 올린다 (cardinality 고정).
+ */
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.heavy-hitters.enabled", havingValue = "true")
+public class RateLimitHeavyHitters {
+
+    private final MeterRegistry meterRegistry;
+    private final int sketchWidth;
+    private final int topK;
+    private final int gaugeRanks;
+    private final ConcurrentHashMap<String, RuleHitters> rules = new ConcurrentHashMap<>();
+
+    public RateLimitHeavyHitters(
+            MeterRegistry meterRegistry,
+            @Value("${app.rate-limit.heavy-hitters.sketch-width:512}") int sketchWidth,
+            @Value("${app.rate-limit.heavy-hitters.top-k:10}") int topK,
+            @Value("${app.rate-limit.heavy-hitters.gauge-ranks:3}") int gaugeRanks
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.sketchWidth = sketchWidth;
+        this.topK = topK;
+        this.gaugeRanks = Math.min(gaugeRanks, topK);
+    }
+
+    public void record(RateLimitRule rule, Object subject, boolean allowed) {
+        RuleHitters hitters = rules.get(rule.name());
+        if (hitters == null) {
+            hitters = rules.computeIfAbsent(rule.name(), this::register);
+        }
+        hitters.requests.add(subject);
+        if (allowed) {
+            hitters.allowedCounter.increment();
+        } else {
+            hitters.blocked.add(subject);
+            hitters.blockedCounter.increment();
+        }
+    }
+
+    /**
+     * 추정치를 주기적으로 절반으로 줄여 최근 트래픽 위주로 유지한다.
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.heavy-hitters.decay-interval-ms:60000}")
+    public void decay() {
+        for (RuleHitters hitters : rules.values()) {
+            hitters.requests.decay();
+            hitters.blocked.decay();
+        }
+    }
+
+    public Map<String, RuleSnapshot> snapshot() {
+        Map<String, RuleSnapshot> snapshot = new TreeMap<>();
+        rules.forEach((rule, hitters) -> snapshot.put(rule, hitters.snapshot()));
+        return snapshot;
+    }
+
+    public RuleSnapshot snapshot(String rule) {
+        RuleHitters hitters = rules.get(rule);
+        return hitters == null ? null : hitters.snapshot();
+    }
+
+    private RuleHitters register(String rule) {
+        RuleHitters hitters = new RuleHitters(
+                new HeavyHitterSketch(sketchWidth, topK),
+                new HeavyHitterSketch(sketchWidth, topK),
+                Counter.builder("rate.limit.decisions").tag("rule", rule).tag("outcome", "allowed").register(meterRegistry),
+                Counter.builder("rate.limit.decisions").tag("rule", rule).tag("outcome", "blocked").register(meterRegistry)
+        );
+        for (int rank = 1; rank <= gaugeRanks; rank++) {
+            int currentRank = rank;
+            Gauge.builder("rate.limit.heavy_hitter.estimate", hitters.requests, sketch -> sketch.estimateAtRank(currentRank))
+                    .tag("rule", rule)
+                    .tag("kind", "requests")
+                    .tag("rank", String.valueOf(rank))
+                    .register(meterRegistry);
+            Gauge.builder("rate.limit.heavy_hitter.estimate", hitters.blocked, sketch -> sketch.estimateAtRank(currentRank))
+                    .tag("rule", rule)
+                    .tag("kind", "blocked")
+                    .tag("rank", String.valueOf(rank))
+                    .register(meterRegistry);
+        }
+        return hitters;
+    }
+
+    private record RuleHitters(
+            HeavyHitterSketch requests,
+            HeavyHitterSketch blocked,
+            Counter allowedCounter,
+            Counter blockedCounter
+    ) {
+        private RuleSnapshot snapshot() {
+            return new RuleSnapshot(
+                    requests.total(),
+                    blocked.total(),
+                    requests.top().stream().map(entry -> new Hitter(entry.key(), entry.estimate())).toList(),
+                    blocked.top().stream().map(entry -> new Hitter(entry.key(), entry.estimate())).toList()
+            );
+        }
+    }
+
+    /**
+     * 규칙별 스냅샷. 합계/추정치는 decay 가 적용된 최근 트래픽 기준 값이다.
+     */
+    public record RuleSnapshot(long requests, long blocked, List<Hitter> topRequesters, List<Hitter> topBlocked) {
+    }
+
+    public record Hitter(String key, long estimate) {
+    }
+}
@@ -11,13 +11,13 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
 import java.io.IOException;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class RateLimitInterceptor implements HandlerInterceptor {
 
-    private final RateLimitPolicy policy;
-    private final LocalRateLimiter rateLimiter;
+    private final ClusterRateLimiter rateLimiter;
     private final RateLimitMatcher matcher;
     private final ObjectMapper objectMapper = new ObjectMapper();
     @Value("${app.rate-limit.enabled:true}")
@@ -32,21 +32,18 @@ public class RateLimitInterceptor implements HandlerInterceptor {
             return true;
         }
 
+        List<RateLimitRule> rules = matcher.match(RateLimitTarget.USER, request.getMethod(), request.getRequestURI());
+        if (rules.isEmpty()) {
+            return true;
+        }
+
         Long userId = resolveUserId(request);
         if (userId == null) {
             return true;
         }
 
-        String path = request.getRequestURI();
-        for (RateLimitRule rule : policy.rules()) {
-            if (rule.target() != RateLimitTarget.USER) {
-                continue;
-            }
-            if (!matcher.matches(rule, request.getMethod(), path)) {
-                continue;
-            }
-            String key = "rate:user:" + userId + ":" + rule.name();
-            RateLimitResult result = rateLimiter.check(key, rule.limit(), rule.window());
+        for (RateLimitRule rule : rules) {
+            RateLimitResult result = rateLimiter.check(rule, userId);
             if (!result.allowed()) {
                 writeRateLimit(response, result.retryAfterSeconds());
                 return false;
@@ -1,18 +1,183 @@
 package org.refit.refitbackend.global.ratelimit;
 
-import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 import org.springframework.util.AntPathMatcher;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RateLimitPolicy 규칙을 기동 시 (대상, HTTP method) 별 경로 세그먼트 trie 로 컴파일해 두고, 요청 경로에 걸리는 규칙만 한 번에 찾는다.
+ * trie 는 후보를 좁히는 용도이며, 최종 판정은 기존과 같은 AntPathMatcher 로 해 매칭 결과는 그대로다.
+ * 어떤 규칙에도 걸리지 않는 경로(대부분의 요청)는 할당 없이 빈 목록을 반환한다.
+ */
 @Component
 public class RateLimitMatcher {
 
     private final AntPathMatcher matcher = new AntPathMatcher();
+    private final Map<RateLimitTarget, Map<String, Index>> indexes = new EnumMap<>(RateLimitTarget.class);
+
+    public RateLimitMatcher(RateLimitPolicy policy) {
+        List<RateLimitRule> rules = policy.rules();
+        for (int order = 0; order < rules.size(); order++) {
+            RateLimitRule rule = rules.get(order);
+            indexes.computeIfAbsent(rule.target(), ignored -> new HashMap<>())
+                    .computeIfAbsent(rule.method().name(), ignored -> new Index())
+                    .add(new CompiledRule(order, rule));
+        }
+    }
+
+    /**
+     * 요청에 걸리는 규칙 목록 (RateLimitPolicy 선언 순서).
+     */
+    public List<RateLimitRule> match(RateLimitTarget target, String method, String path) {
+        Map<String, Index> byMethod = indexes.get(target);
+        if (byMethod == null || path == null) {
+            return List.of();
+        }
+        Index index = byMethod.get(method);
+        if (index == null) {
+            return List.of();
+        }
+        return index.match(path, matcher);
+    }
+
+    private record CompiledRule(int order, RateLimitRule rule) {
+    }
+
+    private static final class Index {
+        private final Node root = new Node();
+        // trie 로 표현할 수 없는 패턴 (중간 '**' 등) 은 항상 후보로 두고 AntPathMatcher 로만 판정
+        private final List<CompiledRule> unindexed = new ArrayList<>();
+
+        private void add(CompiledRule compiled) {
+            String[] segments = Arrays.stream(compiled.rule().pattern().split("/"))
+                    .filter(segment -> !segment.isEmpty())
+                    .toArray(String[]::new);
+            Node node = root;
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if ("**".equals(segment)) {
+                    if (i != segments.length - 1) {
+                        unindexed.add(compiled);
+                        return;
+                    }
+                    node.rest.add(compiled);
+                    return;
+                }
+                node = isLiteral(segment) ? node.literalChild(segment) : node.wildcardChild();
+            }
+            node.exact.add(compiled);
+        }
+
+        private List<RateLimitRule> match(String path, AntPathMatcher matcher) {
+            List<CompiledRule> candidates = root.collect(path, 0, null);
+            if (!unindexed.isEmpty()) {
+                if (candidates == null) {
+                    candidates = new ArrayList<>();
+                }
+                candidates.addAll(unindexed);
+            }
+            if (candidates == null) {
+                return List.of();
+            }
+
+            candidates.sort(Comparator.comparingInt(CompiledRule::order));
+            List<RateLimitRule> matched = new ArrayList<>(candidates.size());
+            for (CompiledRule candidate : candidates) {
+                if (matcher.match(candidate.rule().pattern(), path)) {
+                    matched.add(candidate.rule());
+                }
+            }
+            return matched;
+        }
+
+        private static boolean isLiteral(String segment) {
+            return segment.indexOf('*') < 0 && segment.indexOf('?') < 0 && segment.indexOf('{') < 0;
+        }
+    }
+
+    private static final class Node {
+        private String[] literals = new String[0];
+        private Node[] literalChildren = new Node[0];
+        // '*', '?', '{var}' 가 들어간 세그먼트
+        private Node wildcard;
+        // 이 노드에서 끝나는 패턴
+        private final List<CompiledRule> exact = new ArrayList<>(1);
+        // 이 노드 뒤가 '/**' 인 패턴 (남은 경로와 무관하게 후보)
+        private final List<CompiledRule> rest = new ArrayList<>(1);
+
+        private Node literalChild(String segment) {
+            for (int i = 0; i < literals.length; i++) {
+                if (literals[i].equals(segment)) {
+                    return literalChildren[i];
+                }
+            }
+            Node child = new Node();
+            literals = Arrays.copyOf(literals, literals.length + 1);
+            literalChildren = Arrays.copyOf(literalChildren, literalChildren.length + 1);
+            literals[literals.length - 1] = segment;
+            literalChildren[literalChildren.length - 1] = child;
+            return child;
+        }
+
+        private Node wildcardChild() {
+            if (wildcard == null) {
+                wildcard = new Node();
+            }
+            return wildcard;
+        }
+
+        /**
+         * path[pos..] 를 세그먼트 단위로 따라가며 후보를 모은다. 빈 세그먼트('//')는 AntPathMatcher 와 같이 건너뛴다.
+         */
+        private List<CompiledRule> collect(String path, int pos, List<CompiledRule> out) {
+            out = addAll(out, rest);
+            int length = path.length();
+            while (pos < length && path.charAt(pos) == '/') {
+                pos++;
+            }
+            if (pos >= length) {
+                out = addAll(out, exact);
+                // AntPathMatcher 는 '/' 로 끝나는 경로를 마지막 '*' 세그먼트와도 일치시킨다 ("/a/*" 와 "/a/")
+                if (wildcard != null && length > 0 && path.charAt(length - 1) == '/') {
+                    out = addAll(out, wildcard.exact);
+                }
+                return out;
+            }
+
+            int end = path.indexOf('/', pos);
+            if (end < 0) {
+                end = length;
+            }
+            int segmentLength = end - pos;
+            for (int i = 0; i < literals.length; i++) {
+                String literal = literals[i];
+                if (literal.length() == segmentLength && path.regionMatches(pos, literal, 0, segmentLength)) {
+                    out = literalChildren[i].collect(path, end, out);
+                    break;
+                }
+            }
+            if (wildcard != null) {
+                out = wildcard.collect(path, end, out);
+            }
+            return out;
+        }
 
-    public boolean matches(RateLimitRule rule, String method, String path) {
-        if (rule.method() != HttpMethod.valueOf(method)) {
-            return false;
+        private static List<CompiledRule> addAll(List<CompiledRule> out, List<CompiledRule> rules) {
+            if (rules.isEmpty()) {
+                return out;
+            }
+            if (out == null) {
+                out = new ArrayList<>();
+            }
+            out.addAll(rules);
+            return out;
         }
-        return matcher.match(rule.pattern(), path);
     }
 }
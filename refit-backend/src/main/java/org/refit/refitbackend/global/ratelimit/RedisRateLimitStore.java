@@ -0,0 +1,64 @@
+package org.refit.refitbackend.global.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 클러스터 공용 rate limit 카운터. 규칙/subject 별 고정 window 카운트를 Lua 로 원자적으로 차감해 토큰 묶음(lease)을 발급한다.
+ * 한 노드가 받아 간 토큰은 그 노드에서만 쓰이므로, 전체 통과 수는 노드 수와 관계없이 limit 을 넘지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.rate-limit.redis.enabled", havingValue = "true")
+public class RedisRateLimitStore {
+
+    private static final String KEY_PREFIX = "rate:";
+
+    // KEYS[1]=rule/subject 카운터 / ARGV: limit, 요청 토큰 수, windowMs → {발급 토큰 수, window 남은 ms}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local limit = tonumber(ARGV[1])
+            local used = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local granted = math.min(tonumber(ARGV[2]), limit - used)
+            if granted > 0 then
+              if redis.call('INCRBY', KEYS[1], granted) == granted then
+                redis.call('PEXPIRE', KEYS[1], ARGV[3])
+              end
+            else
+              granted = 0
+            end
+            local ttl = redis.call('PTTL', KEYS[1])
+            if ttl == -1 then
+              redis.call('PEXPIRE', KEYS[1], ARGV[3])
+              ttl = tonumber(ARGV[3])
+            elseif ttl < 0 then
+              ttl = tonumber(ARGV[3])
+            end
+            return {granted, ttl}
+            """, List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public Grant acquire(RateLimitRule rule, Object subject, int requested) {
+        List<?> result = stringRedisTemplate.execute(
+                ACQUIRE_SCRIPT,
+                List.of(KEY_PREFIX + rule.name() + ":" + subject),
+                String.valueOf(rule.limit()),
+                String.valueOf(requested),
+                String.valueOf(rule.window().toMillis())
+        );
+        if (result == null || result.size() < 2) {
+            throw new IllegalStateException("rate limit acquire failed. rule=" + rule.name());
+        }
+        return new Grant(((Number) result.get(0)).intValue(), ((Number) result.get(1)).longValue());
+    }
+
+    public record Grant(int granted, long windowRemainingMs) {
+    }
+}
@@ -34,14 +34,18 @@ public class SseEmitterRepository {
         return Map.copyOf(emitters);
     }
 
-    public void remove(Long userId, String emitterId) {
+    /**
+     * @return 실제로 제거했으면 true (완료/타임아웃/에러 콜백이 중복 호출돼도 한 번만 true)
+     */
+    public boolean remove(Long userId, String emitterId) {
         Map<String, SseEmitter> emitters = emittersByUserId.get(userId);
         if (emitters == null) {
-            return;
+            return false;
         }
-        emitters.remove(emitterId);
+        boolean removed = emitters.remove(emitterId) != null;
         if (emitters.isEmpty()) {
             emittersByUserId.remove(userId);
         }
+        return removed;
     }
 }
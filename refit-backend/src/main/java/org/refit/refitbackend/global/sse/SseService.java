@@ -2,6 +2,7 @@ package org.refit.refitbackend.global.sse;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.refit.refitbackend.domain.chat.presence.ChatPresenceRegistry;
 import org.refit.refitbackend.domain.notification.realtime.RedisNotificationRealtimePublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
@@ -22,15 +23,17 @@ public class SseService {
 
     private final SseEmitterRepository emitterRepository;
     private final Optional<RedisNotificationRealtimePublisher> redisNotificationRealtimePublisher;
+    private final ChatPresenceRegistry chatPresenceRegistry;
 
     public SseEmitter subscribe(Long userId) {
         String emitterId = UUID.randomUUID().toString();
         SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT_MS);
 
         emitterRepository.save(userId, emitterId, emitter);
-        emitter.onCompletion(() -> emitterRepository.remove(userId, emitterId));
-        emitter.onTimeout(() -> emitterRepository.remove(userId, emitterId));
-        emitter.onError(ex -> emitterRepository.remove(userId, emitterId));
+        chatPresenceRegistry.onSseConnected(userId);
+        emitter.onCompletion(() -> removeEmitter(userId, emitterId));
+        emitter.onTimeout(() -> removeEmitter(userId, emitterId));
+        emitter.onError(ex -> removeEmitter(userId, emitterId));
 
         try {
             emitter.send(SseEmitter.event()
@@ -41,7 +44,7 @@ public class SseService {
                             "connected_at", Instant.now().toString()
                     )));
         } catch (IOException e) {
-            emitterRepository.remove(userId, emitterId);
+            removeEmitter(userId, emitterId);
             throw new IllegalStateException("SSE connection initialize failed", e);
         }
 
@@ -67,11 +70,18 @@ public class SseService {
     }
 
     public void sendChatEvent(Long userId, Long chatId, Long messageId, long unreadCount) {
+        sendChatEvent(userId, chatId, messageId, unreadCount, null);
+    }
+
+    public void sendChatEvent(Long userId, Long chatId, Long messageId, long unreadCount, Long totalUnreadCount) {
         Map<String, Object> payload = new LinkedHashMap<>();
         payload.put("type", "CHAT_MESSAGE");
         payload.put("chat_id", chatId);
         payload.put("message_id", messageId);
         payload.put("unread_count", unreadCount);
+        if (totalUnreadCount != null) {
+            payload.put("total_unread_count", totalUnreadCount);
+        }
         sendToUser(userId, "chat", payload);
     }
 
@@ -84,7 +94,7 @@ public class SseService {
                         .name(eventName)
                         .data(payload));
             } catch (Exception e) {
-                emitterRepository.remove(userId, emitterId);
+                removeEmitter(userId, emitterId);
                 try {
                     emitter.complete();
                 } catch (Exception ignored) {
@@ -94,4 +104,10 @@ public class SseService {
             }
         }
     }
+
+    private void removeEmitter(Long userId, String emitterId) {
+        if (emitterRepository.remove(userId, emitterId)) {
+            chatPresenceRegistry.onSseClosed(userId);
+        }
+    }
 }
@@ -165,6 +165,45 @@ public final class ChatSwaggerSpec {
     })
     public @interface MarkAsRead {}
 
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @SwaggerApiSuccess(
+            summary = "전체 안 읽은 메시지 수 조회",
+            operationDescription = "진행 중인 채팅방 전체의 안 읽은 메시지 수 합계를 조회합니다",
+            implementation = ChatRes.UnreadCount.class
+    )
+    @SwaggerApiError(responseCode = "401", description = "unauthorized", types = {
+            ExceptionType.AUTH_UNAUTHORIZED,
+            ExceptionType.AUTH_INVALID_TOKEN,
+            ExceptionType.AUTH_TOKEN_EXPIRED
+    })
+    public @interface GetUnreadCount {}
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @SwaggerApiSuccess(
+            summary = "재접속 메시지 동기화",
+            operationDescription = """
+                채팅방별 마지막 수신 시퀀스(last_seen_seq) 이후 누락된 메시지만 오름차순으로 반환합니다.
+                - 최신 상태인 채팅방은 up_to_date=true, messages=[] 로 응답합니다.
+                - has_more=true 이면 마지막 메시지 시퀀스로 다시 요청합니다.
+                - WebSocket: /app/chat.sync 전송, /user/queue/chat.sync 구독
+                """,
+            implementation = ChatRes.SyncResponse.class
+    )
+    @SwaggerApiError(responseCode = "400", description = "invalid_request", types = {
+            ExceptionType.INVALID_REQUEST
+    })
+    @SwaggerApiError(responseCode = "401", description = "unauthorized", types = {
+            ExceptionType.AUTH_UNAUTHORIZED,
+            ExceptionType.AUTH_INVALID_TOKEN,
+            ExceptionType.AUTH_TOKEN_EXPIRED
+    })
+    @SwaggerApiError(responseCode = "404", description = "chat_room_not_found", types = {
+            ExceptionType.CHAT_ROOM_NOT_FOUND
+    })
+    public @interface SyncMessages {}
+
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
     @SwaggerApiSuccess(
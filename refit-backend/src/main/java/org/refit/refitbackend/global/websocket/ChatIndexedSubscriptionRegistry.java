@@ -0,0 +1,121 @@
+package org.refit.refitbackend.global.websocket;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.broker.AbstractSubscriptionRegistry;
+import org.springframework.messaging.simp.broker.DefaultSubscriptionRegistry;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SimpleBroker 구독 레지스트리. /queue/chat.{id}(.cbor) 는 목적지 해시 인덱스로 바로 찾고,
+ * 그 외 목적지는 기본 레지스트리(패턴 매칭, selector)에 위임한다.
+ * 채팅방별 구독 목록은 변경 시 새로 만들어 교체(copy-on-write)하므로 전송 경로는 잠금 없이 읽는다.
+ */
+public class ChatIndexedSubscriptionRegistry extends AbstractSubscriptionRegistry {
+
+    private static final String CHAT_DESTINATION_PREFIX = "/queue/chat.";
+    private static final String CBOR_SUFFIX = ".cbor";
+    private static final MultiValueMap<String, String> EMPTY =
+            CollectionUtils.unmodifiableMultiValueMap(new LinkedMultiValueMap<>());
+
+    private final DefaultSubscriptionRegistry delegate;
+
+    // 채팅방 목적지(포맷별) -> (sessionId -> subscriptionIds) 불변 스냅샷
+    private final Map<String, MultiValueMap<String, String>> chatSubscriptions = new ConcurrentHashMap<>();
+    // sessionId -> (subscriptionId -> 채팅방 목적지), 해제 시 역조회용
+    private final Map<String, Map<String, String>> sessionChatSubscriptions = new ConcurrentHashMap<>();
+
+    public ChatIndexedSubscriptionRegistry(DefaultSubscriptionRegistry delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    protected void addSubscriptionInternal(String sessionId, String subscriptionId, String destination, Message<?> message) {
+        if (!isChatDestination(destination)) {
+            delegate.registerSubscription(message);
+            return;
+        }
+        sessionChatSubscriptions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>()).put(subscriptionId, destination);
+        chatSubscriptions.compute(destination, (key, current) -> {
+            LinkedMultiValueMap<String, String> next = copyOf(current);
+            next.add(sessionId, subscriptionId);
+            return CollectionUtils.unmodifiableMultiValueMap(next);
+        });
+    }
+
+    @Override
+    protected void removeSubscriptionInternal(String sessionId, String subscriptionId, Message<?> message) {
+        Map<String, String> subscriptions = sessionChatSubscriptions.get(sessionId);
+        String destination = subscriptions != null ? subscriptions.remove(subscriptionId) : null;
+        if (destination == null) {
+            delegate.unregisterSubscription(message);
+            return;
+        }
+        removeChatSubscription(destination, sessionId, subscriptionId);
+    }
+
+    @Override
+    public void unregisterAllSubscriptions(String sessionId) {
+        Map<String, String> subscriptions = sessionChatSubscriptions.remove(sessionId);
+        if (subscriptions != null) {
+            subscriptions.forEach((subscriptionId, destination) -> removeChatSubscription(destination, sessionId, subscriptionId));
+        }
+        delegate.unregisterAllSubscriptions(sessionId);
+    }
+
+    @Override
+    protected MultiValueMap<String, String> findSubscriptionsInternal(String destination, Message<?> message) {
+        if (!isChatDestination(destination)) {
+            return delegate.findSubscriptions(message);
+        }
+        return chatSubscriptions.getOrDefault(destination, EMPTY);
+    }
+
+    private void removeChatSubscription(String destination, String sessionId, String subscriptionId) {
+        chatSubscriptions.computeIfPresent(destination, (key, current) -> {
+            LinkedMultiValueMap<String, String> next = copyOf(current);
+            List<String> ids = next.get(sessionId);
+            if (ids != null) {
+                ids.remove(subscriptionId);
+                if (ids.isEmpty()) {
+                    next.remove(sessionId);
+                }
+            }
+            return next.isEmpty() ? null : CollectionUtils.unmodifiableMultiValueMap(next);
+        });
+    }
+
+    private LinkedMultiValueMap<String, String> copyOf(MultiValueMap<String, String> current) {
+        LinkedMultiValueMap<String, String> next = new LinkedMultiValueMap<>();
+        if (current != null) {
+            current.forEach((sessionId, ids) -> next.put(sessionId, new ArrayList<>(ids)));
+        }
+        return next;
+    }
+
+    /**
+     * /queue/chat.{숫자} 또는 /queue/chat.{숫자}.cbor 만 인덱스 대상 (그 외 /queue/chat.sync 등은 기본 레지스트리)
+     */
+    static boolean isChatDestination(String destination) {
+        if (destination == null || !destination.startsWith(CHAT_DESTINATION_PREFIX)) {
+            return false;
+        }
+        int end = destination.endsWith(CBOR_SUFFIX) ? destination.length() - CBOR_SUFFIX.length() : destination.length();
+        int length = end - CHAT_DESTINATION_PREFIX.length();
+        if (length <= 0 || length > 18) {
+            return false;
+        }
+        for (int i = CHAT_DESTINATION_PREFIX.length(); i < end; i++) {
+            if (!Character.isDigit(destination.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
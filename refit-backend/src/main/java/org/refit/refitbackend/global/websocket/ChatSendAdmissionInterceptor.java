@@ -0,0 +1,67 @@
+package org.refit.refitbackend.global.websocket;
+
+import org.refit.refitbackend.domain.chat.admission.ChatSendAdmission;
+import org.refit.refitbackend.domain.chat.admission.ChatSendAdmissionController;
+import org.refit.refitbackend.domain.chat.dto.ChatRes;
+import org.refit.refitbackend.global.error.ExceptionType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * /app/chat.sendMessage 를 inbound 큐에 넣기 전에(WebSocket 수신 스레드에서) 입장 제어한다.
+ * 거절 시 /user/queue/errors 로 retry_after_ms 를 담은 응답을 보내고 프레임은 버린다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.chat.admission.enabled", havingValue = "true")
+public class ChatSendAdmissionInterceptor implements ChannelInterceptor {
+
+    private static final String CHAT_SEND_DESTINATION = "/app/chat.sendMessage";
+    private static final String ERROR_DESTINATION = "/queue/errors";
+
+    private final ChatSendAdmissionController admissionController;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // WebSocketConfig 가 브로커 설정 중에 이 인터셉터를 주입받으므로 브로커 템플릿은 지연 주입으로 순환 참조를 피한다.
+    public ChatSendAdmissionInterceptor(
+            ChatSendAdmissionController admissionController,
+            @Lazy SimpMessagingTemplate messagingTemplate
+    ) {
+        this.admissionController = admissionController;
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        if (!StompCommand.SEND.equals(accessor.getCommand()) || !CHAT_SEND_DESTINATION.equals(accessor.getDestination())) {
+            return message;
+        }
+        String userId = accessor.getUser() != null ? accessor.getUser().getName() : null;
+        if (userId == null || userId.isBlank()) {
+            return message;
+        }
+
+        ChatSendAdmission admission = admissionController.admit();
+        if (admission.admitted()) {
+            return message;
+        }
+        messagingTemplate.convertAndSendToUser(
+                userId,
+                ERROR_DESTINATION,
+                new ChatRes.SendRejected(
+                        ExceptionType.CHAT_SEND_OVERLOADED.getCode(),
+                        ExceptionType.CHAT_SEND_OVERLOADED.getMessage(),
+                        admission.reason(),
+                        admission.retryAfterMs()
+                )
+        );
+        return null;
+    }
+}
@@ -0,0 +1,101 @@
+package org.refit.refitbackend.global.websocket;
+
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세션별 outbound STOMP 프레임 묶음 전송 설정/스케줄러.
+ * 클라이언트가 CONNECT 헤더 x-coalesce-frames:true 를 보낸 세션만 짧은 구간의 프레임을 하나의 WebSocket 메시지로 합쳐 보낸다.
+ * (STOMP 프레임은 NUL 로 끝나므로 여러 프레임을 이어 붙여도 클라이언트 파서가 순서대로 분리한다)
+ * 스케줄러 스레드는 window 타이머만 담당하고, 블로킹 쓰기는 flush 마다 가상 스레드에서 실행한다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.websocket.outbound.coalescing.enabled", havingValue = "true")
+public class FrameCoalescingSupport implements ChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+    static final String CAPABILITY_HEADER = "x-coalesce-frames";
+    static final String SESSION_ATTRIBUTE = FrameCoalescingSupport.class.getName() + ".enabled";
+
+    private final long windowMs;
+    @Getter
+    private final int maxFrames;
+    @Getter
+    private final int maxBytes;
+    @Getter
+    private final long sendTimeLimitMs;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService flushExecutor;
+
+    public FrameCoalescingSupport(
+            @Value("${app.websocket.outbound.coalescing.window-ms:5}") long windowMs,
+            @Value("${app.websocket.outbound.coalescing.max-frames:256}") int maxFrames,
+            @Value("${app.websocket.outbound.coalescing.max-bytes:1048576}") int maxBytes,
+            @Value("${app.websocket.transport.send-time-limit-ms:20000}") long sendTimeLimitMs
+    ) {
+        this.windowMs = windowMs;
+        this.maxFrames = maxFrames;
+        this.maxBytes = maxBytes;
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ws-coalesce-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flushExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ws-coalesce-flush-", 0).factory());
+    }
+
+    /**
+     * CONNECT 헤더로 기능 사용 여부를 세션 속성에 기록 (STOMP 세션 속성 = WebSocket 세션 속성)
+     */
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor != null && StompCommand.CONNECT.equals(accessor.getCommand())) {
+            Map<String, Object> attributes = accessor.getSessionAttributes();
+            if (attributes != null && "true".equalsIgnoreCase(accessor.getFirstNativeHeader(CAPABILITY_HEADER))) {
+                attributes.put(SESSION_ATTRIBUTE, Boolean.TRUE);
+            }
+        }
+        return message;
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                super.afterConnectionEstablished(new FrameCoalescingWebSocketSession(session, FrameCoalescingSupport.this));
+            }
+        };
+    }
+
+    ScheduledFuture<?> schedule(Runnable flush) {
+        return scheduler.schedule(() -> flushExecutor.execute(flush), windowMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        flushExecutor.shutdown();
+    }
+}
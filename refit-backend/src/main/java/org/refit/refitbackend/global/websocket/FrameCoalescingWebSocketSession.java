@@ -0,0 +1,157 @@
+package org.refit.refitbackend.global.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 기능을 켠 세션의 텍스트 프레임을 window 동안 모았다가 한 번에 쓴다.
+ * 실제 쓰기는 세션 전용 가상 스레드에서 하므로 느린 클라이언트가 다른 세션의 묶음 전송을 막지 않는다.
+ * 대기 바이트(UTF-8 기준)/프레임 수가 한도를 넘거나 한 번의 쓰기가 send-time-limit 를 넘기면(느린 소비자) 세션을 종료한다.
+ * (ConcurrentWebSocketSessionDecorator 와 같은 기준)
+ */
+@Slf4j
+class FrameCoalescingWebSocketSession extends WebSocketSessionDecorator {
+
+    private final FrameCoalescingSupport support;
+    // pending/flushScheduled 보호. 전송(I/O) 중에는 잡지 않는다
+    private final ReentrantLock lock = new ReentrantLock();
+    // delegate 쓰기 직렬화. 꺼낸 순서대로 쓰도록 꺼내기도 이 락 안에서 한다
+    private final ReentrantLock sendLock = new ReentrantLock();
+    private final List<byte[]> pending = new ArrayList<>();
+    private int pendingBytes;
+    private boolean flushScheduled;
+    private volatile long sendStartedAtMs;
+
+    FrameCoalescingWebSocketSession(WebSocketSession delegate, FrameCoalescingSupport support) {
+        super(delegate);
+        this.support = support;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        if (!(message instanceof TextMessage text) || !Boolean.TRUE.equals(getAttributes().get(FrameCoalescingSupport.SESSION_ATTRIBUTE))) {
+            sendLock.lock();
+            try {
+                // 앞서 모아둔 프레임보다 먼저 나가지 않도록 비우고 전송
+                send(drainPending());
+                getDelegate().sendMessage(message);
+            } finally {
+                sendLock.unlock();
+            }
+            return;
+        }
+
+        boolean overflow;
+        lock.lock();
+        try {
+            byte[] payload = text.asBytes();
+            overflow = pending.size() >= support.getMaxFrames()
+                    || pendingBytes + payload.length > support.getMaxBytes()
+                    || isSendTimeLimitExceeded();
+            if (!overflow) {
+                pending.add(payload);
+                pendingBytes += payload.length;
+                if (!flushScheduled) {
+                    flushScheduled = true;
+                    support.schedule(this::flush);
+                }
+            } else {
+                pending.clear();
+                pendingBytes = 0;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (overflow) {
+            log.warn("WebSocket outbound coalescing limit exceeded. sessionId={}", getId());
+            close(CloseStatus.SESSION_NOT_RELIABLE);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        close(CloseStatus.NORMAL);
+    }
+
+    @Override
+    public void close(CloseStatus status) throws IOException {
+        if (status.equalsCode(CloseStatus.NORMAL)) {
+            sendLock.lock();
+            try {
+                send(drainPending());
+            } catch (IOException e) {
+                log.debug("WebSocket flush before close failed. sessionId={}", getId(), e);
+            } finally {
+                sendLock.unlock();
+            }
+        } else {
+            // 진행 중인 쓰기는 delegate 종료로 풀리므로 sendLock 을 기다리지 않는다
+            drainPending();
+        }
+        getDelegate().close(status);
+    }
+
+    private void flush() {
+        sendLock.lock();
+        try {
+            send(drainPending());
+        } catch (IOException e) {
+            log.debug("WebSocket coalesced flush failed. sessionId={}", getId(), e);
+        } finally {
+            sendLock.unlock();
+        }
+    }
+
+    private byte[] drainPending() {
+        lock.lock();
+        try {
+            flushScheduled = false;
+            if (pending.isEmpty()) {
+                return null;
+            }
+            byte[] body;
+            if (pending.size() == 1) {
+                body = pending.get(0);
+            } else {
+                body = new byte[pendingBytes];
+                int offset = 0;
+                for (byte[] frame : pending) {
+                    System.arraycopy(frame, 0, body, offset, frame.length);
+                    offset += frame.length;
+                }
+            }
+            pending.clear();
+            pendingBytes = 0;
+            return body;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void send(byte[] body) throws IOException {
+        if (body == null || !isOpen()) {
+            return;
+        }
+        sendStartedAtMs = System.currentTimeMillis();
+        try {
+            getDelegate().sendMessage(new TextMessage(body));
+        } finally {
+            sendStartedAtMs = 0L;
+        }
+    }
+
+    private boolean isSendTimeLimitExceeded() {
+        long startedAtMs = sendStartedAtMs;
+        return startedAtMs > 0L && System.currentTimeMillis() - startedAtMs > support.getSendTimeLimitMs();
+    }
+}
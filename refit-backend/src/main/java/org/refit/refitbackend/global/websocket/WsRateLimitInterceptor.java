@@ -22,6 +22,7 @@ public class WsRateLimitInterceptor implements ChannelInterceptor {
     private static final Duration WINDOW = Duration.ofSeconds(1);
     private static final String CHAT_SEND_DESTINATION = "/app/chat.sendMessage";
     private static final String ERROR_DESTINATION = "/queue/errors";
+    private static final String CHAT_SEND_SCOPE = "ws_chat_send";
 
     private final LocalRateLimiter rateLimiter;
     private final SimpMessagingTemplate messagingTemplate;
@@ -48,7 +49,7 @@ public class WsRateLimitInterceptor implements ChannelInterceptor {
             return message;
         }
 
-        RateLimitResult result = rateLimiter.check("ws:user:" + userId + ":chat_send", MAX_PER_SECOND, WINDOW);
+        RateLimitResult result = rateLimiter.check(CHAT_SEND_SCOPE, userId, MAX_PER_SECOND, WINDOW);
         if (!result.allowed()) {
             messagingTemplate.convertAndSendToUser(
                     userId,
@@ -0,0 +1,70 @@
+package org.refit.refitbackend.domain.chat.realtime;
+
+import org.junit.jupiter.api.Test;
+import org.refit.refitbackend.domain.chat.dto.ChatRes;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.PropertyNamingStrategies;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JSON/CBOR 클라이언트가 Redis 구간 포맷과 관계없이 같은 필드 이름과 값을 받는지 확인한다.
+ */
+class ChatPayloadCodecTest {
+
+    private static final ObjectMapper CBOR_READER = CBORMapper.builder().build();
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+            .build();
+    private final ChatPayloadCodec codec = new ChatPayloadCodec(objectMapper);
+
+    private final ChatRes.MessageInfo payload = new ChatRes.MessageInfo(
+            11L, 7L, 3L, new ChatRes.UserInfo(5L, "nick", null, "USER"),
+            "TEXT", "안녕하세요", "cmsg_1", LocalDateTime.of(2026, 1, 2, 3, 4, 5));
+
+    @Test
+    void cborUsesSameFieldNamesAsJson() {
+        JsonNode json = objectMapper.readTree(codec.encode(payload, ChatWireFormat.JSON));
+        JsonNode cbor = CBOR_READER.readTree(codec.encode(payload, ChatWireFormat.CBOR));
+
+        assertThat(json.propertyNames()).contains("message_id", "room_sequence", "client_message_id", "created_at");
+        assertThat(json.path("sender").propertyNames()).contains("user_id", "profile_image_url");
+        assertThat(cbor).isEqualTo(json);
+    }
+
+    @Test
+    void jsonRedisPayloadTranscodesToSameCbor() {
+        // payload-format=json: JSON 으로 받아 CBOR 구독자에게 변환
+        byte[] transcoded = codec.transcode(codec.encode(payload, ChatWireFormat.JSON), ChatWireFormat.JSON, ChatWireFormat.CBOR);
+
+        assertThat(CBOR_READER.readTree(transcoded))
+                .isEqualTo(CBOR_READER.readTree(codec.encode(payload, ChatWireFormat.CBOR)));
+    }
+
+    @Test
+    void cborRedisPayloadTranscodesToSameJson() {
+        // payload-format=cbor: CBOR 로 받아 JSON 구독자에게 변환
+        byte[] transcoded = codec.transcode(codec.encode(payload, ChatWireFormat.CBOR), ChatWireFormat.CBOR, ChatWireFormat.JSON);
+
+        assertThat(objectMapper.readTree(transcoded))
+                .isEqualTo(objectMapper.readTree(codec.encode(payload, ChatWireFormat.JSON)));
+    }
+
+    @Test
+    void cborFollowsInjectedMapperNaming() {
+        ObjectMapper camelCase = JsonMapper.builder().build();
+        ChatPayloadCodec camelCaseCodec = new ChatPayloadCodec(camelCase);
+
+        JsonNode json = camelCase.readTree(camelCaseCodec.encode(payload, ChatWireFormat.JSON));
+        JsonNode cbor = CBOR_READER.readTree(camelCaseCodec.encode(payload, ChatWireFormat.CBOR));
+
+        assertThat(json.propertyNames()).contains("messageId");
+        assertThat(cbor).isEqualTo(json);
+    }
+}
@@ -0,0 +1,116 @@
+package org.refit.refitbackend.domain.chat.realtime;
+
+import org.junit.jupiter.api.Test;
+import org.refit.refitbackend.domain.chat.dto.ChatRes;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.PropertyNamingStrategies;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 봉투 모드(바이너리/JSON)와 무관하게 포맷별 구독자가 모두 메시지를 받는지 확인한다.
+ */
+class RedisChatRealtimeSubscriberTest {
+
+    private static final long CHAT_ID = 7L;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+            .build();
+    private final ChatPayloadCodec codec = new ChatPayloadCodec(objectMapper);
+    private final ChatRoomSubscriptionTracker tracker = new ChatRoomSubscriptionTracker();
+    private final List<Message<?>> sent = new ArrayList<>();
+    private final ChatRealtimeDelivery delivery = new ChatRealtimeDelivery(
+            new SimpMessagingTemplate((message, timeout) -> sent.add(message)), tracker, codec);
+    private final RedisChatRealtimeSubscriber subscriber = new RedisChatRealtimeSubscriber(objectMapper, tracker, delivery);
+
+    private final ChatRes.MessageInfo payload = new ChatRes.MessageInfo(
+            11L, CHAT_ID, 3L, new ChatRes.UserInfo(5L, "nick", null, "USER"),
+            "TEXT", "안녕하세요", "cmsg_1", LocalDateTime.of(2026, 1, 2, 3, 4, 5));
+
+    @Test
+    void cborSubscriberReceivesBinaryEnvelope() {
+        subscribe("cbor-session", ChatWireFormat.CBOR);
+
+        receive(ChatRealtimeEnvelope.encode(CHAT_ID, ChatWireFormat.JSON, codec.encode(payload, ChatWireFormat.JSON)));
+
+        assertThat(sent).hasSize(1);
+        assertDelivered(sent.get(0), ChatWireFormat.CBOR);
+    }
+
+    @Test
+    void cborSubscriberReceivesCborPayloadEnvelope() {
+        subscribe("cbor-session", ChatWireFormat.CBOR);
+
+        receive(ChatRealtimeEnvelope.encode(CHAT_ID, ChatWireFormat.CBOR, codec.encode(payload, ChatWireFormat.CBOR)));
+
+        assertThat(sent).hasSize(1);
+        assertDelivered(sent.get(0), ChatWireFormat.CBOR);
+    }
+
+    @Test
+    void cborSubscriberReceivesJsonEnvelope() {
+        subscribe("cbor-session", ChatWireFormat.CBOR);
+
+        // binary-envelope=false 노드가 보내는 JSON 봉투
+        receive(objectMapper.writeValueAsBytes(new RedisChatRealtimeEvent(CHAT_ID, payload)));
+
+        assertThat(sent).hasSize(1);
+        assertDelivered(sent.get(0), ChatWireFormat.CBOR);
+    }
+
+    @Test
+    void jsonEnvelopeIsDeliveredToEveryFormat() {
+        subscribe("json-session", ChatWireFormat.JSON);
+        subscribe("cbor-session", ChatWireFormat.CBOR);
+
+        receive(objectMapper.writeValueAsBytes(new RedisChatRealtimeEvent(CHAT_ID, payload)));
+
+        assertThat(sent).hasSize(2);
+        assertDelivered(sent.get(0), ChatWireFormat.JSON);
+        assertDelivered(sent.get(1), ChatWireFormat.CBOR);
+    }
+
+    @Test
+    void roomWithoutLocalSubscribersIsDropped() {
+        receive(objectMapper.writeValueAsBytes(new RedisChatRealtimeEvent(CHAT_ID, payload)));
+        receive(ChatRealtimeEnvelope.encode(CHAT_ID, ChatWireFormat.JSON, codec.encode(payload, ChatWireFormat.JSON)));
+
+        assertThat(sent).isEmpty();
+    }
+
+    private void subscribe(String sessionId, ChatWireFormat format) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId("sub-0");
+        accessor.setDestination(format.destination(CHAT_ID));
+        tracker.onSubscribe(new SessionSubscribeEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders())));
+    }
+
+    private void receive(byte[] body) {
+        subscriber.onMessage(new DefaultMessage(("chat:" + CHAT_ID).getBytes(StandardCharsets.UTF_8), body), null);
+    }
+
+    private void assertDelivered(Message<?> message, ChatWireFormat format) {
+        assertThat(SimpMessageHeaderAccessor.getDestination(message.getHeaders())).isEqualTo(format.destination(CHAT_ID));
+        ObjectMapper reader = format == ChatWireFormat.CBOR ? CBORMapper.builder().build() : objectMapper;
+        JsonNode tree = reader.readTree((byte[]) message.getPayload());
+        assertThat(tree.path("content").asString()).isEqualTo("안녕하세요");
+    }
+}
@@ -0,0 +1,131 @@
+package org.refit.refitbackend.domain.chat.repository;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * multi-row INSERT ... RETURNING 과 saveAll 의 배치 크기별 처리량(rows/sec) 비교.
+ * ChatMessage 는 IDENTITY 전략이라 saveAll 은 JDBC 배치 없이 행마다 INSERT ... RETURNING id 를 한 번씩 실행하므로,
+ * JPA 컨텍스트를 띄우지 않고 그 SQL 을 같은 트랜잭션 경계로 그대로 재현해 비교한다.
+ * PostgreSQL 이 필요하므로 CHAT_BENCH_JDBC_URL(+ CHAT_BENCH_JDBC_USERNAME / CHAT_BENCH_JDBC_PASSWORD)이 있을 때만 실행한다.
+ * 예) CHAT_BENCH_JDBC_URL=jdbc:postgresql://localhost:5432/refit ./gradlew test --tests '*ChatMessageBulkRepositoryBenchmarkTest'
+ * 실제 테이블에는 쓰지 않는다. 세션 전용 temp 테이블(chat_messages, 같은 컬럼/인덱스)이 search_path 앞에서 가린다.
+ */
+@EnabledIfEnvironmentVariable(named = "CHAT_BENCH_JDBC_URL", matches = ".+")
+class ChatMessageBulkRepositoryBenchmarkTest {
+
+    private static final int ROUNDS = 5;
+
+    private static final String SINGLE_INSERT_SQL = """
+            insert into chat_messages (
+                chat_room_id, sender_id, message_type, content, room_sequence, client_message_id, created_at, updated_at
+            ) values (?, ?, ?, ?, ?, ?, ?, ?)
+            returning id
+            """;
+
+    private static final AtomicLong CHAT_IDS = new AtomicLong();
+
+    private static SingleConnectionDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate transactionTemplate;
+    private static ChatMessageBulkRepository bulkRepository;
+
+    @BeforeAll
+    static void setUp() {
+        dataSource = new SingleConnectionDataSource(
+                System.getenv("CHAT_BENCH_JDBC_URL"),
+                System.getenv().getOrDefault("CHAT_BENCH_JDBC_USERNAME", "postgres"),
+                System.getenv().getOrDefault("CHAT_BENCH_JDBC_PASSWORD", ""),
+                true
+        );
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        bulkRepository = new ChatMessageBulkRepository(jdbcTemplate);
+        // temp 스키마가 search_path 맨 앞이므로 저장소의 chat_messages 는 이 테이블을 가리킨다 (FK 는 복사되지 않음)
+        jdbcTemplate.execute("create temp table chat_messages (like public.chat_messages including all)");
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (dataSource != null) {
+            jdbcTemplate.execute("drop table if exists pg_temp.chat_messages");
+            dataSource.destroy();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {100, 1000, 5000})
+    void compareRowsPerSecond(int batchSize) {
+        // JIT/커넥션 워밍업
+        insertRowByRow(rows(batchSize));
+        bulkRepository.insertAll(rows(batchSize));
+
+        long saveAllNanos = 0;
+        long bulkNanos = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            List<ChatMessageBulkRepository.NewRow> perRow = rows(batchSize);
+            long started = System.nanoTime();
+            int inserted = insertRowByRow(perRow);
+            saveAllNanos += System.nanoTime() - started;
+            assertThat(inserted).isEqualTo(batchSize);
+
+            List<ChatMessageBulkRepository.NewRow> bulk = rows(batchSize);
+            started = System.nanoTime();
+            List<ChatMessageBulkRepository.InsertedRow> returned = transactionTemplate.execute(status -> bulkRepository.insertAll(bulk));
+            bulkNanos += System.nanoTime() - started;
+            assertThat(returned).hasSize(batchSize);
+        }
+
+        double saveAllRate = rowsPerSecond(batchSize, saveAllNanos);
+        double bulkRate = rowsPerSecond(batchSize, bulkNanos);
+        System.out.printf("batch=%d saveAll(row-by-row)=%.0f rows/s bulk=%.0f rows/s (x%.1f)%n",
+                batchSize, saveAllRate, bulkRate, bulkRate / saveAllRate);
+    }
+
+    private int insertRowByRow(List<ChatMessageBulkRepository.NewRow> rows) {
+        Integer inserted = transactionTemplate.execute(status -> {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            int count = 0;
+            for (ChatMessageBulkRepository.NewRow row : rows) {
+                Long id = jdbcTemplate.queryForObject(SINGLE_INSERT_SQL, Long.class,
+                        row.chatId(), row.senderId(), row.messageType(), row.content(),
+                        row.roomSequence(), row.clientMessageId(), now, now);
+                if (id != null) {
+                    count++;
+                }
+            }
+            return count;
+        });
+        return inserted == null ? 0 : inserted;
+    }
+
+    private static List<ChatMessageBulkRepository.NewRow> rows(int size) {
+        long chatId = CHAT_IDS.incrementAndGet();
+        List<ChatMessageBulkRepository.NewRow> rows = new ArrayList<>(size);
+        for (long seq = 1; seq <= size; seq++) {
+            rows.add(new ChatMessageBulkRepository.NewRow(
+                    chatId, 1L, "TEXT", "benchmark message " + seq, seq, UUID.randomUUID().toString()));
+        }
+        return rows;
+    }
+
+    private static double rowsPerSecond(int batchSize, long nanos) {
+        return (double) batchSize * ROUNDS / (nanos / 1_000_000_000.0);
+    }
+}
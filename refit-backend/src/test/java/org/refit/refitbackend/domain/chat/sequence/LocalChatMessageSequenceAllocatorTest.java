@@ -0,0 +1,112 @@
+package org.refit.refitbackend.domain.chat.sequence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 발급한 seq 가 항상 기록된 high-water 이하이고, 카운터가 밀려나거나 종료된 뒤 다시 시작해도 빈 구간/중복 없이 이어지는지 확인한다.
+ */
+class LocalChatMessageSequenceAllocatorTest {
+
+    private static final long BLOCK = 5L;
+
+    private final InMemorySeeder seeder = new InMemorySeeder();
+
+    @Test
+    void reservesHighWaterBeforeReturningSequence() {
+        LocalChatMessageSequenceAllocator allocator = new LocalChatMessageSequenceAllocator(seeder, 10);
+
+        for (long expected = 1; expected <= 12; expected++) {
+            long next = allocator.next(1L, 0L);
+
+            assertThat(next).isEqualTo(expected);
+            assertThat(seeder.highWater(1L)).isGreaterThanOrEqualTo(next);
+        }
+        // 블록 단위로만 기록된다
+        assertThat(seeder.reserveCalls).isEqualTo(3);
+    }
+
+    @Test
+    void continuesWithoutGapAfterEviction() {
+        LocalChatMessageSequenceAllocator allocator = new LocalChatMessageSequenceAllocator(seeder, 1);
+        allocator.next(1L, 0L);
+        allocator.next(1L, 0L);
+
+        // 채팅방 2 가 들어오면서 1 이 밀려나고 예약분이 실제 발급값으로 되돌아간다
+        allocator.next(2L, 0L);
+        assertThat(seeder.highWater(1L)).isEqualTo(2L);
+
+        assertThat(allocator.next(1L, 0L)).isEqualTo(3L);
+    }
+
+    @Test
+    void restartContinuesFromReleasedHighWater() {
+        LocalChatMessageSequenceAllocator allocator = new LocalChatMessageSequenceAllocator(seeder, 10);
+        allocator.next(1L, 0L);
+        allocator.next(1L, 0L);
+        allocator.releaseAll();
+
+        LocalChatMessageSequenceAllocator restarted = new LocalChatMessageSequenceAllocator(seeder, 10);
+
+        assertThat(restarted.next(1L, 0L)).isEqualTo(3L);
+    }
+
+    @Test
+    void crashSkipsAtMostUnusedReservation() {
+        LocalChatMessageSequenceAllocator allocator = new LocalChatMessageSequenceAllocator(seeder, 10);
+        allocator.next(1L, 0L);
+
+        // release 없이 새 발급기: 저장 대기 중일 수 있는 예약분 이후부터 발급
+        LocalChatMessageSequenceAllocator restarted = new LocalChatMessageSequenceAllocator(seeder, 10);
+
+        assertThat(restarted.next(1L, 0L)).isEqualTo(BLOCK + 1);
+    }
+
+    @Test
+    void neverAllocatesBelowFloor() {
+        LocalChatMessageSequenceAllocator allocator = new LocalChatMessageSequenceAllocator(seeder, 10);
+        allocator.next(1L, 0L);
+
+        assertThat(allocator.next(1L, 40L)).isEqualTo(41L);
+        assertThat(seeder.highWater(1L)).isGreaterThanOrEqualTo(41L);
+        assertThat(allocator.current(1L, 0L)).isEqualTo(41L);
+    }
+
+    private static final class InMemorySeeder extends ChatMessageSequenceSeeder {
+
+        private final Map<Long, Long> highWater = new HashMap<>();
+        private int reserveCalls;
+
+        private InMemorySeeder() {
+            super(null, null, BLOCK);
+        }
+
+        @Override
+        public long seed(Long chatId, long floor) {
+            return Math.max(floor, highWater(chatId));
+        }
+
+        @Override
+        public long reserve(Long chatId, long next) {
+            reserveCalls++;
+            long upTo = next + BLOCK - 1;
+            highWater.merge(chatId, upTo, Math::max);
+            return upTo;
+        }
+
+        @Override
+        public void release(Long chatId, long reserved, long allocated) {
+            if (allocated < reserved && highWater(chatId) == reserved) {
+                highWater.put(chatId, allocated);
+            }
+        }
+
+        private long highWater(Long chatId) {
+            return highWater.getOrDefault(chatId, 0L);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package org.refit.refitbackend.global.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * top-K 가 가장 빈번한 키를 추정치 내림차순으로 유지하고, decay() 가 추정치를 절반으로 줄이는지 확인한다.
+ */
+class HeavyHitterSketchTest {
+
+    @Test
+    void keepsHeaviestKeysInDescendingOrder() {
+        HeavyHitterSketch sketch = new HeavyHitterSketch(1024, 3);
+        addTimes(sketch, "a", 500);
+        addTimes(sketch, "b", 300);
+        addTimes(sketch, "c", 200);
+        for (int i = 0; i < 200; i++) {
+            sketch.add("noise-" + i);
+        }
+
+        List<HeavyHitterSketch.Entry> top = sketch.top();
+
+        assertThat(top).extracting(HeavyHitterSketch.Entry::key).containsExactly("a", "b", "c");
+        assertThat(sketch.total()).isEqualTo(1_200L);
+    }
+
+    @Test
+    void neverUnderestimates() {
+        HeavyHitterSketch sketch = new HeavyHitterSketch(16, 4);
+        for (int i = 0; i < 400; i++) {
+            sketch.add("key-" + (i % 40));
+        }
+        addTimes(sketch, "hot", 100);
+
+        // width 가 작아 충돌이 많아도 과대 추정만 한다
+        assertThat(sketch.top().get(0).key()).isEqualTo("hot");
+        assertThat(sketch.estimateAtRank(1)).isBetween(100L, sketch.total());
+    }
+
+    @Test
+    void heavierLateKeyReplacesLightestEntry() {
+        HeavyHitterSketch sketch = new HeavyHitterSketch(1024, 2);
+        addTimes(sketch, "a", 50);
+        addTimes(sketch, "b", 10);
+        addTimes(sketch, "c", 30);
+
+        assertThat(sketch.top()).extracting(HeavyHitterSketch.Entry::key).containsExactly("a", "c");
+    }
+
+    @Test
+    void estimateAtRankIsZeroBeyondTopSize() {
+        HeavyHitterSketch sketch = new HeavyHitterSketch(1024, 5);
+        addTimes(sketch, "a", 7);
+        addTimes(sketch, "b", 3);
+
+        assertThat(sketch.estimateAtRank(1)).isEqualTo(7L);
+        assertThat(sketch.estimateAtRank(2)).isEqualTo(3L);
+        assertThat(sketch.estimateAtRank(3)).isZero();
+    }
+
+    @Test
+    void decayHalvesEstimatesAndDropsEmptyEntries() {
+        HeavyHitterSketch sketch = new HeavyHitterSketch(1024, 3);
+        addTimes(sketch, "a", 9);
+        addTimes(sketch, "b", 4);
+        sketch.add("c");
+
+        sketch.decay();
+
+        assertThat(sketch.top())
+                .containsExactly(new HeavyHitterSketch.Entry("a", 4L), new HeavyHitterSketch.Entry("b", 2L));
+        assertThat(sketch.total()).isEqualTo(7L);
+    }
+
+    @Test
+    void decayReopensAdmissionForNewKeys() {
+        HeavyHitterSketch sketch = new HeavyHitterSketch(1024, 2);
+        addTimes(sketch, "a", 8);
+        addTimes(sketch, "b", 1);
+        sketch.decay();
+
+        // 'b' 가 decay 로 빠져 자리가 나므로 새 키가 바로 들어온다
+        sketch.add("c");
+
+        assertThat(sketch.top()).extracting(HeavyHitterSketch.Entry::key).containsExactly("a", "c");
+    }
+
+    @Test
+    void trackedKeyKeepsCountingUnderConcurrentAdds() throws InterruptedException {
+        HeavyHitterSketch sketch = new HeavyHitterSketch(1024, 2);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            threads.add(Thread.ofPlatform().start(() -> addTimes(sketch, "hot", 10_000)));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // 추적 중인 키는 락 없이 max 로 갱신되므로 마지막 추정치(= 전체 횟수)가 남아야 한다
+        assertThat(sketch.top()).containsExactly(new HeavyHitterSketch.Entry("hot", 80_000L));
+    }
+
+    private static void addTimes(HeavyHitterSketch sketch, String key, int times) {
+        for (int i = 0; i < times; i++) {
+            sketch.add(key);
+        }
+    }
+}
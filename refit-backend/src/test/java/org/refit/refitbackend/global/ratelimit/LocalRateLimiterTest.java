@@ -0,0 +1,129 @@
+package org.refit.refitbackend.global.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * sliding-window 추정(window 전환 시 이전 카운트 가중치)과 Retry-After 계산을 고정된 시계로 확인한다.
+ */
+class LocalRateLimiterTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(10);
+    private static final long WINDOW_MS = WINDOW.toMillis();
+    // window 경계에 맞춘 시작 시각
+    private static final long START_MS = 100 * WINDOW_MS;
+
+    private final AtomicLong clock = new AtomicLong(START_MS);
+    private final LocalRateLimiter limiter = new LocalRateLimiter(clock::get);
+
+    @Test
+    void blocksOnceLimitIsReachedWithinWindow() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(check(3).allowed()).isTrue();
+        }
+
+        RateLimitResult blocked = check(3);
+
+        assertThat(blocked.allowed()).isFalse();
+        // 다음 window 시작 시점엔 이전 카운트가 그대로 반영되므로 1ms 더 지나야 풀린다
+        assertThat(blocked.retryAfterSeconds()).isEqualTo(11L);
+    }
+
+    @Test
+    void previousWindowCountDecaysAcrossRoll() {
+        fill(10);
+
+        // 다음 window 의 절반 지점: 추정치 = 10 × 0.5 + 현재 카운트
+        clock.set(START_MS + WINDOW_MS + WINDOW_MS / 2);
+        int allowed = 0;
+        while (check(10).allowed()) {
+            allowed++;
+        }
+
+        assertThat(allowed).isEqualTo(5);
+    }
+
+    @Test
+    void counterResetsAfterTwoIdleWindows() {
+        fill(10);
+
+        clock.set(START_MS + 2 * WINDOW_MS);
+
+        assertThat(fill(10)).isEqualTo(10);
+    }
+
+    @Test
+    void retryAfterReleasesExactlyWhenEstimateDropsBelowLimit() {
+        int[] limits = {1, 3, 10, 100};
+        long[] offsets = {0L, 1L, 2_500L, 5_000L, 9_999L};
+        for (int limit : limits) {
+            for (long offset : offsets) {
+                LocalRateLimiter scenario = new LocalRateLimiter(clock::get);
+                clock.set(START_MS + offset);
+                int prevCount = fill(scenario, limit);
+                clock.set(START_MS + WINDOW_MS + offset);
+                int currCount = fill(scenario, limit);
+
+                RateLimitResult blocked = scenario.check("scope", "subject", limit, WINDOW);
+                long retryAfterMs = LocalRateLimiter.retryAfterMs(WINDOW_MS, offset, prevCount, currCount, limit);
+
+                assertThat(blocked.allowed()).as("limit=%d offset=%d", limit, offset).isFalse();
+                assertThat(blocked.retryAfterSeconds()).isEqualTo(Math.max(1L, (retryAfterMs + 999L) / 1000L));
+
+                long blockedAt = clock.get();
+                if (retryAfterMs > 1) {
+                    clock.set(blockedAt + retryAfterMs - 1);
+                    assertThat(scenario.check("scope", "subject", limit, WINDOW).allowed())
+                            .as("limit=%d offset=%d early", limit, offset)
+                            .isFalse();
+                }
+                clock.set(blockedAt + retryAfterMs);
+                assertThat(scenario.check("scope", "subject", limit, WINDOW).allowed())
+                        .as("limit=%d offset=%d release", limit, offset)
+                        .isTrue();
+            }
+        }
+    }
+
+    @Test
+    void scopesAndSubjectsAreCountedSeparately() {
+        assertThat(limiter.check("scope", "a", 1, WINDOW).allowed()).isTrue();
+        assertThat(limiter.check("scope", "a", 1, WINDOW).allowed()).isFalse();
+
+        assertThat(limiter.check("scope", "b", 1, WINDOW).allowed()).isTrue();
+        assertThat(limiter.check("other", "a", 1, WINDOW).allowed()).isTrue();
+    }
+
+    @Test
+    void expiringIdleCountersDoesNotChangeResult() {
+        fill(10);
+
+        clock.set(START_MS + 3 * WINDOW_MS);
+        limiter.expireIdle();
+
+        assertThat(fill(10)).isEqualTo(10);
+    }
+
+    private RateLimitResult check(int limit) {
+        return limiter.check("scope", "subject", limit, WINDOW);
+    }
+
+    private int fill(int limit) {
+        return fill(limiter, limit);
+    }
+
+    /**
+     * 차단될 때까지(최대 limit 회) 요청해 통과한 횟수를 반환한다.
+     */
+    private static int fill(LocalRateLimiter target, int limit) {
+        int allowed = 0;
+        while (allowed < limit && target.check("scope", "subject", limit, WINDOW).allowed()) {
+            allowed++;
+        }
+        return allowed;
+    }
+}
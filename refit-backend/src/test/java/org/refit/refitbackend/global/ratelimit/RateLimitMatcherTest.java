@@ -0,0 +1,108 @@
+package org.refit.refitbackend.global.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * trie 인덱스가 후보를 좁혀도 결과가 규칙 전체를 AntPathMatcher 로 순회한 것과 같은지 확인한다.
+ */
+class RateLimitMatcherTest {
+
+    private final RateLimitPolicy policy = new RateLimitPolicy();
+    private final RateLimitMatcher rateLimitMatcher = new RateLimitMatcher(policy);
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+    @Test
+    void matchesSameRulesAsAntPathMatcher() {
+        Set<String> paths = pathCorpus();
+
+        for (RateLimitTarget target : RateLimitTarget.values()) {
+            for (HttpMethod method : HttpMethod.values()) {
+                for (String path : paths) {
+                    List<RateLimitRule> expected = policy.rules().stream()
+                            .filter(rule -> rule.target() == target)
+                            .filter(rule -> rule.method().equals(method))
+                            .filter(rule -> antPathMatcher.match(rule.pattern(), path))
+                            .toList();
+
+                    assertThat(rateLimitMatcher.match(target, method.name(), path))
+                            .as("%s %s %s", target, method, path)
+                            .containsExactlyElementsOf(expected);
+                }
+            }
+        }
+    }
+
+    @Test
+    void everyRuleMatchesItsOwnConcretePath() {
+        for (RateLimitRule rule : policy.rules()) {
+            String path = concrete(rule.pattern());
+
+            assertThat(rateLimitMatcher.match(rule.target(), rule.method().name(), path))
+                    .as("%s %s", rule.name(), path)
+                    .contains(rule);
+        }
+    }
+
+    @Test
+    void rootOfDoubleWildcardPatternMatches() {
+        List<RateLimitRule> matched = rateLimitMatcher.match(RateLimitTarget.IP, "POST", "/api/v1/auth");
+
+        assertThat(matched).extracting(RateLimitRule::name).containsExactly("auth_post");
+    }
+
+    @Test
+    void unknownMethodOrNullPathMatchesNothing() {
+        assertThat(rateLimitMatcher.match(RateLimitTarget.USER, "PURGE", "/api/v1/chats")).isEmpty();
+        assertThat(rateLimitMatcher.match(RateLimitTarget.USER, "POST", null)).isEmpty();
+        assertThat(rateLimitMatcher.match(RateLimitTarget.IP_USER, "POST", "/api/v1/chats")).isEmpty();
+    }
+
+    /**
+     * 규칙마다 일치/불일치/끝 '/'/중간 '//'/'/**' 루트 경로를 만든다.
+     */
+    private Set<String> pathCorpus() {
+        Set<String> paths = new LinkedHashSet<>(List.of("", "/", "//", "/api", "/api/", "/health", "/api/v2/chats"));
+        for (RateLimitRule rule : policy.rules()) {
+            String path = concrete(rule.pattern());
+            String parent = path.substring(0, path.lastIndexOf('/'));
+
+            paths.add(path);
+            paths.add(path + "/");
+            paths.add(path + "//");
+            paths.add("/" + path);
+            paths.add(path.replaceFirst("/v", "//v"));
+            paths.add(path.replace("/", "//"));
+            paths.add(path + "/7");
+            paths.add(path + "/7/detail");
+            paths.add(path + "x");
+            paths.add(path.toUpperCase());
+            paths.add(parent);
+            paths.add(parent + "/");
+            paths.add(parent + "/other");
+            if (rule.pattern().endsWith("/**")) {
+                String root = rule.pattern().substring(0, rule.pattern().length() - "/**".length());
+                paths.add(root);
+                paths.add(root + "/");
+                paths.add(root + "/**");
+            }
+            if (rule.pattern().contains("/*/")) {
+                paths.add(rule.pattern().replace("/*/", "//"));
+                paths.add(rule.pattern().replace("/*/", "/7/8/"));
+            }
+        }
+        return paths;
+    }
+
+    private static String concrete(String pattern) {
+        String path = pattern.endsWith("/**") ? pattern.substring(0, pattern.length() - "/**".length()) : pattern;
+        return path.replace("*", "42");
+    }
+}
@@ -0,0 +1,147 @@
+package org.refit.refitbackend.global.websocket;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.DefaultSubscriptionRegistry;
+import org.springframework.messaging.simp.broker.SubscriptionRegistry;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MultiValueMap;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 구독/해제 순서를 기본 레지스트리와 인덱스 레지스트리에 적용했을 때 목적지별 조회 결과가 같은지,
+ * 연결 종료 시 세션의 채팅방 구독이 모두 정리되는지 확인한다.
+ */
+class ChatIndexedSubscriptionRegistryTest {
+
+    private static final List<String> DESTINATIONS = List.of(
+            "/queue/chat.1",
+            "/queue/chat.1.cbor",
+            "/queue/chat.2",
+            "/queue/chat.sync",
+            "/queue/errors",
+            "/topic/notice"
+    );
+
+    private final DefaultSubscriptionRegistry expected = new DefaultSubscriptionRegistry();
+    private final ChatIndexedSubscriptionRegistry registry = new ChatIndexedSubscriptionRegistry(new DefaultSubscriptionRegistry());
+
+    @Test
+    void matchesDefaultRegistryForChatAndOtherDestinations() {
+        apply(r -> {
+            r.registerSubscription(subscribe("s1", "sub-1", "/queue/chat.1"));
+            r.registerSubscription(subscribe("s1", "sub-2", "/queue/chat.1.cbor"));
+            r.registerSubscription(subscribe("s2", "sub-1", "/queue/chat.1"));
+            r.registerSubscription(subscribe("s2", "sub-2", "/queue/chat.2"));
+            r.registerSubscription(subscribe("s1", "sub-3", "/queue/chat.sync"));
+            r.registerSubscription(subscribe("s2", "sub-3", "/queue/errors"));
+            r.registerSubscription(subscribe("s1", "sub-4", "/topic/*"));
+        });
+
+        assertParity();
+        assertThat(registry.findSubscriptions(message("/queue/chat.1")).keySet()).containsExactlyInAnyOrder("s1", "s2");
+        // 패턴 구독은 기본 레지스트리로 위임되어 그대로 매칭된다
+        assertThat(registry.findSubscriptions(message("/topic/notice"))).containsOnlyKeys("s1");
+    }
+
+    @Test
+    void unsubscribeMatchesDefaultRegistry() {
+        apply(r -> {
+            r.registerSubscription(subscribe("s1", "sub-1", "/queue/chat.1"));
+            r.registerSubscription(subscribe("s1", "sub-2", "/queue/chat.1"));
+            r.registerSubscription(subscribe("s2", "sub-1", "/queue/chat.1"));
+            r.registerSubscription(subscribe("s1", "sub-3", "/queue/chat.sync"));
+            r.unregisterSubscription(unsubscribe("s1", "sub-1"));
+            r.unregisterSubscription(unsubscribe("s2", "sub-1"));
+            r.unregisterSubscription(unsubscribe("s1", "sub-3"));
+        });
+
+        assertParity();
+        assertThat(registry.findSubscriptions(message("/queue/chat.1")))
+                .containsOnlyKeys("s1")
+                .containsEntry("s1", List.of("sub-2"));
+    }
+
+    @Test
+    void disconnectRemovesAllSessionSubscriptions() {
+        apply(r -> {
+            r.registerSubscription(subscribe("s1", "sub-1", "/queue/chat.1"));
+            r.registerSubscription(subscribe("s1", "sub-2", "/queue/chat.1.cbor"));
+            r.registerSubscription(subscribe("s1", "sub-3", "/queue/chat.2"));
+            r.registerSubscription(subscribe("s1", "sub-4", "/queue/chat.sync"));
+            r.registerSubscription(subscribe("s2", "sub-1", "/queue/chat.1"));
+            r.unregisterAllSubscriptions("s1");
+        });
+
+        assertParity();
+        assertThat(registry.findSubscriptions(message("/queue/chat.1"))).containsOnlyKeys("s2");
+        assertThat(registry.findSubscriptions(message("/queue/chat.1.cbor"))).isEmpty();
+        assertThat(registry.findSubscriptions(message("/queue/chat.2"))).isEmpty();
+        assertThat(registry.findSubscriptions(message("/queue/chat.sync"))).isEmpty();
+    }
+
+    @Test
+    void resubscribeAfterDisconnectIsIndexedAgain() {
+        apply(r -> {
+            r.registerSubscription(subscribe("s1", "sub-1", "/queue/chat.1"));
+            r.unregisterAllSubscriptions("s1");
+            r.registerSubscription(subscribe("s1", "sub-1", "/queue/chat.1"));
+        });
+
+        assertParity();
+        assertThat(registry.findSubscriptions(message("/queue/chat.1"))).containsOnlyKeys("s1");
+    }
+
+    @Test
+    void onlyNumericRoomDestinationsAreIndexed() {
+        assertThat(ChatIndexedSubscriptionRegistry.isChatDestination("/queue/chat.42")).isTrue();
+        assertThat(ChatIndexedSubscriptionRegistry.isChatDestination("/queue/chat.42.cbor")).isTrue();
+        assertThat(ChatIndexedSubscriptionRegistry.isChatDestination("/queue/chat.sync")).isFalse();
+        assertThat(ChatIndexedSubscriptionRegistry.isChatDestination("/queue/chat.")).isFalse();
+        assertThat(ChatIndexedSubscriptionRegistry.isChatDestination("/queue/chat.*")).isFalse();
+        assertThat(ChatIndexedSubscriptionRegistry.isChatDestination("/topic/chat.1")).isFalse();
+    }
+
+    private void apply(Consumer<SubscriptionRegistry> steps) {
+        steps.accept(expected);
+        steps.accept(registry);
+    }
+
+    private void assertParity() {
+        for (String destination : DESTINATIONS) {
+            MultiValueMap<String, String> actual = registry.findSubscriptions(message(destination));
+            assertThat(actual).as(destination).isEqualTo(expected.findSubscriptions(message(destination)));
+        }
+    }
+
+    private static Message<byte[]> subscribe(String sessionId, String subscriptionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return build(accessor);
+    }
+
+    private static Message<byte[]> unsubscribe(String sessionId, String subscriptionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return build(accessor);
+    }
+
+    private static Message<byte[]> message(String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        return build(accessor);
+    }
+
+    private static Message<byte[]> build(SimpMessageHeaderAccessor accessor) {
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}